@@ -0,0 +1,96 @@
+package com.github.jmp.poker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of batch evaluation against evaluating the same hands one by one.
+ *
+ * <p>Every invocation evaluates {@value #HANDS} random hands, and the scores
+ * are reported per hand. The vectorized benchmark runs with the incubating
+ * Vector API module added.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchBenchmark {
+    static final int HANDS = 1 << 20;
+
+    private int[] values;
+    private Card[][] cards;
+    private short[] results;
+
+    @Setup
+    public void setup() {
+        final var random = new SplittableRandom(42);
+        values = new int[HANDS * 5];
+        cards = new Card[HANDS][];
+        results = new short[HANDS];
+
+        for (var i = 0; i < HANDS; i++) {
+            final var hand = HandSamples.randomHand(random, 5);
+            cards[i] = new Card[5];
+            for (var j = 0; j < 5; j++) {
+                cards[i][j] = Card.of(hand[j]);
+                values[i * 5 + j] = cards[i][j].getValue();
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public short[] evaluateAll() {
+        Evaluator.evaluateAll(values, results);
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public short[] evaluateAllParallel() {
+        Evaluator.evaluateAllParallel(values, results);
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public short[] evaluateAllVectorized() {
+        Evaluator.evaluateAllVectorized(values, results);
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public void evaluateValues(Blackhole blackhole) {
+        for (var i = 0; i < HANDS; i++) {
+            final var offset = i * 5;
+            blackhole.consume(Evaluator.evaluate(
+                values[offset], values[offset + 1], values[offset + 2], values[offset + 3], values[offset + 4]
+            ));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public void evaluateHands(Blackhole blackhole) {
+        for (var i = 0; i < HANDS; i++) {
+            blackhole.consume(new Hand(cards[i]).evaluate());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.jmp.poker;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ *
+ * <p>Accepts the usual JMH command line options and always enables the
+ * GC profiler, so that every run also reports allocation rates.
+ */
+public class BenchmarkRunner {
+    public static void main(String[] args) throws Exception {
+        final var options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
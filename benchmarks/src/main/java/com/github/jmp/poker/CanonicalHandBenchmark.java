@@ -0,0 +1,44 @@
+package com.github.jmp.poker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link CanonicalHand} with trying all 24 suit permutations, on
+ * random 5-card samples split into 2 hole cards and a flop.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CanonicalHandBenchmark {
+    @Benchmark
+    public CanonicalHand canonicalize(HandSamples samples) {
+        final var cards = samples.indexes[samples.next()];
+        final var hole = new CardSet(1L << cards[0] | 1L << cards[1]);
+        final var board = new CardSet(1L << cards[2] | 1L << cards[3] | 1L << cards[4]);
+        return CanonicalHand.of(hole, board);
+    }
+
+    @Benchmark
+    public long allPermutations(HandSamples samples) {
+        final var cards = samples.indexes[samples.next()];
+        final var hole = 1L << cards[0] | 1L << cards[1];
+        final var board = 1L << cards[2] | 1L << cards[3] | 1L << cards[4];
+        var best = Long.MAX_VALUE;
+        for (var permutation : SuitPermutations.ALL) {
+            final var key = Combinations.index(SuitPermutations.mask(hole, permutation)) * 22100L
+                + Combinations.index(SuitPermutations.mask(board, permutation));
+            best = Math.min(best, key);
+        }
+        return best;
+    }
+}
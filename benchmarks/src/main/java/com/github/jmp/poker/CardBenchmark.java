@@ -0,0 +1,49 @@
+package com.github.jmp.poker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Benchmarks of the {@link Card} API. */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardBenchmark {
+    private String[] strings;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        final var deck = HandSamples.deck();
+        strings = new String[deck.length];
+        for (var i = 0; i < deck.length; i++) {
+            strings[i] = deck[i].toString();
+        }
+    }
+
+    @Benchmark
+    public Card fromString() {
+        final var index = cursor;
+        cursor = index + 1 == strings.length ? 0 : index + 1;
+        return Card.fromString(strings[index]);
+    }
+
+    @Benchmark
+    public Card ofIndex() {
+        final var index = cursor;
+        cursor = index + 1 == Card.DECK_SIZE ? 0 : index + 1;
+        return Card.of(index);
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.jmp.poker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the equity calculators.
+ *
+ * <p>The Monte Carlo scores are per sample; the thread count is a parameter
+ * so that scaling can be compared with the number of cores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EquityBenchmark {
+    static final int SAMPLES = 1 << 20;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private MonteCarloEquity headsUp;
+    private MonteCarloEquity nineHanded;
+    private Range openRange;
+    private Range callRange;
+
+    @Setup
+    public void setup() {
+        headsUp = new MonteCarloEquity(
+            List.of(CardSet.fromString("Ah Kh"), CardSet.fromString("Qs Qd")), CardSet.EMPTY, CardSet.EMPTY
+        );
+
+        final var players = new ArrayList<>(Collections.nCopies(9, CardSet.EMPTY));
+        players.set(0, CardSet.fromString("Ah Kh"));
+        nineHanded = new MonteCarloEquity(players, CardSet.EMPTY, CardSet.EMPTY);
+
+        openRange = Range.parse("22+, A2s+, K9s+, QTs+, JTs, ATo+, KJo+");
+        callRange = Range.parse("22-JJ, A9s-AQs, KTs+, QTs+, JTs, T9s, AJo-AQo, KQo");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public HeadsUpEquity enumerateHeadsUp() {
+        return HeadsUpEquity.enumerate(
+            CardSet.fromString("Ah Kh"), CardSet.fromString("Qs Qd"), CardSet.EMPTY, CardSet.EMPTY
+        );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public MonteCarloEquity.Result simulateHeadsUp() {
+        return headsUp.simulate(SAMPLES, threads);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public MonteCarloEquity.Result simulateNineHanded() {
+        return nineHanded.simulate(SAMPLES, threads);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public RangeEquity enumerateRangesOnFlop() {
+        return RangeEquity.enumerate(openRange, callRange, CardSet.fromString("Ah 7c 2d"), CardSet.EMPTY);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public float[] handStrengthOnFlop() {
+        return new HandStrength(0).equities(CardSet.fromString("Ah 7c 2d"));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public float[] handStrengthOnRiver() {
+        return new HandStrength(0).equities(CardSet.fromString("Ah 7c 2d Ks 5s"));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public HandPotential handPotentialOnFlop() {
+        return HandPotential.calculate(CardSet.fromString("Ah Kh"), CardSet.fromString("Qh 7h 2c"));
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.jmp.poker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Benchmarks of the primitive {@link Evaluator} API. */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EvaluatorBenchmark {
+    @Benchmark
+    public int evaluateValues(HandSamples samples) {
+        final var values = samples.values;
+        final var offset = samples.next() * 5;
+        return Evaluator.evaluate(
+            values[offset], values[offset + 1], values[offset + 2], values[offset + 3], values[offset + 4]
+        );
+    }
+
+    @Benchmark
+    public int evaluateMask(HandSamples samples) {
+        return Evaluator.evaluate(samples.masks[samples.next()]);
+    }
+
+    @Benchmark
+    public int evaluateIndex(HandSamples samples) {
+        return Evaluator.evaluateIndex(samples.handIndexes[samples.next()]);
+    }
+
+    @Benchmark
+    public int indexAndEvaluate(HandSamples samples) {
+        return Evaluator.evaluateIndex(Combinations.index(samples.masks[samples.next()]));
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.jmp.poker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Benchmarks of the {@link Hand} API: evaluation, parsing and construction. */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class HandBenchmark {
+    @Benchmark
+    public int evaluate(HandSamples samples) {
+        return samples.hands[samples.next()].evaluate();
+    }
+
+    @Benchmark
+    public Hand fromString(HandSamples samples) {
+        return Hand.fromString(samples.strings[samples.next()]);
+    }
+
+    @Benchmark
+    public Hand construct(HandSamples samples) {
+        return new Hand(samples.cards[samples.next()]);
+    }
+}
@@ -0,0 +1,187 @@
+package com.github.jmp.poker;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark input: a fixed set of 5-card hands in several representations.
+ *
+ * <p>The {@code kind} parameter selects which hands are generated:
+ * <ul>
+ * <li>{@code RANDOM} - uniformly random hands</li>
+ * <li>{@code ALL} - all 2,598,960 hands in enumeration order</li>
+ * <li>{@code FLUSH} - flushes only, hitting the flush table</li>
+ * <li>{@code UNIQUE} - five distinct ranks without a flush, hitting the unique table</li>
+ * <li>{@code PAIRED} - hands with at least one repeated rank, hitting the hash tables</li>
+ * </ul>
+ *
+ * <p>Benchmarks walk through the samples with {@link #next()}, so every
+ * invocation sees a different hand.
+ */
+@State(Scope.Thread)
+public class HandSamples {
+    private static final int SAMPLE_COUNT = 1 << 16;
+    private static final long SEED = 42;
+
+    public enum Kind { RANDOM, ALL, FLUSH, UNIQUE, PAIRED }
+
+    @Param
+    public Kind kind;
+
+    /** Deck indexes of the cards of every sample, 5 per hand. */
+    public int[][] indexes;
+    public Card[][] cards;
+    public Hand[] hands;
+    public String[] strings;
+    /** Bit-packed card values of every sample, 5 per hand. */
+    public int[] values;
+    public long[] masks;
+    /** Colexicographic index of every sample, see {@link CardSet#index()}. */
+    public int[] handIndexes;
+
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        indexes = generate(kind);
+        cards = new Card[indexes.length][];
+        hands = new Hand[indexes.length];
+        strings = new String[indexes.length];
+        values = new int[indexes.length * 5];
+        masks = new long[indexes.length];
+        handIndexes = new int[indexes.length];
+
+        final var deck = deck();
+        for (var i = 0; i < indexes.length; i++) {
+            cards[i] = new Card[5];
+            for (var j = 0; j < 5; j++) {
+                cards[i][j] = deck[indexes[i][j]];
+                values[i * 5 + j] = cards[i][j].getValue();
+                masks[i] |= 1L << indexes[i][j];
+            }
+            handIndexes[i] = new CardSet(masks[i]).index();
+            hands[i] = new Hand(cards[i]);
+            strings[i] = hands[i].toString();
+        }
+    }
+
+    /**
+     * Returns the index of the next sample, wrapping around at the end.
+     *
+     * @return the index of the next sample
+     */
+    public int next() {
+        final var index = cursor;
+        cursor = index + 1 == indexes.length ? 0 : index + 1;
+        return index;
+    }
+
+    static Card[] deck() {
+        final var deck = new Card[52];
+        for (var i = 0; i < deck.length; i++) {
+            deck[i] = Card.of(i);
+        }
+        return deck;
+    }
+
+    static int[][] generate(Kind kind) {
+        if (kind == Kind.ALL) {
+            final var all = new int[Combinations.count(52, 5)][];
+            final var combination = Combinations.first(5);
+            var count = 0;
+            do {
+                all[count++] = combination.clone();
+            } while (Combinations.next(combination));
+            return all;
+        }
+
+        final var random = new SplittableRandom(SEED);
+        final var samples = new int[SAMPLE_COUNT][];
+        for (var i = 0; i < samples.length; i++) {
+            samples[i] = switch (kind) {
+                case FLUSH -> randomFlush(random);
+                case UNIQUE -> randomUnique(random);
+                case PAIRED -> randomPaired(random);
+                default -> randomHand(random);
+            };
+        }
+        return samples;
+    }
+
+    private static int[] randomHand(SplittableRandom random) {
+        return randomHand(random, 5);
+    }
+
+    /**
+     * Returns the deck indexes of a random hand.
+     *
+     * @param random the random number generator
+     * @param size the number of cards
+     * @return the distinct deck indexes of the cards
+     */
+    static int[] randomHand(SplittableRandom random, int size) {
+        final var hand = new int[size];
+        var used = 0L;
+        for (var i = 0; i < hand.length; i++) {
+            int card;
+            do {
+                card = random.nextInt(52);
+            } while ((used & (1L << card)) != 0);
+            used |= 1L << card;
+            hand[i] = card;
+        }
+        return hand;
+    }
+
+    private static int[] randomFlush(SplittableRandom random) {
+        final var suit = random.nextInt(4);
+        final var hand = new int[5];
+        var ranks = 0;
+        for (var i = 0; i < hand.length; i++) {
+            int rank;
+            do {
+                rank = random.nextInt(13);
+            } while ((ranks & (1 << rank)) != 0);
+            ranks |= 1 << rank;
+            hand[i] = suit * 13 + rank;
+        }
+        return hand;
+    }
+
+    private static int[] randomUnique(SplittableRandom random) {
+        int[] hand;
+        do {
+            hand = randomHand(random);
+        } while (distinctRanks(hand) != 5 || isFlush(hand));
+        return hand;
+    }
+
+    private static int[] randomPaired(SplittableRandom random) {
+        int[] hand;
+        do {
+            hand = randomHand(random);
+        } while (distinctRanks(hand) == 5);
+        return hand;
+    }
+
+    private static int distinctRanks(int[] hand) {
+        var ranks = 0;
+        for (var card : hand) {
+            ranks |= 1 << (card % 13);
+        }
+        return Integer.bitCount(ranks);
+    }
+
+    private static boolean isFlush(int[] hand) {
+        for (var card : hand) {
+            if (card / 13 != hand[0] / 13) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
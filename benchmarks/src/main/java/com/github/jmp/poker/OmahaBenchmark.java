@@ -0,0 +1,101 @@
+package com.github.jmp.poker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link Omaha} evaluator with evaluating all 60 combinations
+ * of two hole cards and three board cards as {@link Hand} objects.
+ *
+ * <p>{@code evaluateBoard} measures the per-player cost when the board is
+ * shared: the board is set up once and evaluated against many hole cards.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OmahaBenchmark {
+    private static final int SAMPLE_COUNT = 1 << 14;
+
+    private Card[][] cards;
+    private int[] values;
+    private Omaha board;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        final var deck = HandSamples.deck();
+        final var random = new SplittableRandom(42);
+        cards = new Card[SAMPLE_COUNT][9];
+        values = new int[SAMPLE_COUNT * 9];
+        for (var i = 0; i < SAMPLE_COUNT; i++) {
+            final var hand = HandSamples.randomHand(random, 9);
+            for (var j = 0; j < 9; j++) {
+                cards[i][j] = deck[hand[j]];
+                values[i * 9 + j] = deck[hand[j]].getValue();
+            }
+        }
+
+        // Hole cards of the other samples may overlap this board, which
+        // does not matter for timing
+        board = new Omaha(values[4], values[5], values[6], values[7], values[8]);
+    }
+
+    private int next() {
+        final var index = cursor;
+        cursor = index + 1 == SAMPLE_COUNT ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public int evaluate() {
+        final var v = values;
+        final var o = next() * 9;
+        return Omaha.evaluate(v[o], v[o + 1], v[o + 2], v[o + 3], v[o + 4], v[o + 5], v[o + 6], v[o + 7], v[o + 8]);
+    }
+
+    @Benchmark
+    public int evaluateBoard() {
+        final var v = values;
+        final var o = next() * 9;
+        return board.evaluate(v[o], v[o + 1], v[o + 2], v[o + 3]);
+    }
+
+    @Benchmark
+    public Omaha createBoard() {
+        final var v = values;
+        final var o = next() * 9;
+        return new Omaha(v[o + 4], v[o + 5], v[o + 6], v[o + 7], v[o + 8]);
+    }
+
+    @Benchmark
+    public int naive() {
+        final var c = cards[next()];
+        var best = Integer.MAX_VALUE;
+        for (var i = 0; i < 4; i++) {
+            for (var j = i + 1; j < 4; j++) {
+                for (var k = 4; k < 9; k++) {
+                    for (var l = k + 1; l < 9; l++) {
+                        for (var m = l + 1; m < 9; m++) {
+                            best = Math.min(best, new Hand(c[i], c[j], c[k], c[l], c[m]).evaluate());
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.jmp.poker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the 7-card evaluator with taking the best of the 21 5-card
+ * subsets, both through {@link Hand} objects and through the primitive API.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SevenCardBenchmark {
+    private static final int SAMPLE_COUNT = 1 << 16;
+
+    private Card[][] cards;
+    private int[] values;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        final var deck = HandSamples.deck();
+        final var random = new SplittableRandom(42);
+        cards = new Card[SAMPLE_COUNT][7];
+        values = new int[SAMPLE_COUNT * 7];
+        for (var i = 0; i < SAMPLE_COUNT; i++) {
+            final var hand = HandSamples.randomHand(random, 7);
+            for (var j = 0; j < 7; j++) {
+                cards[i][j] = deck[hand[j]];
+                values[i * 7 + j] = deck[hand[j]].getValue();
+            }
+        }
+    }
+
+    private int next() {
+        final var index = cursor;
+        cursor = index + 1 == SAMPLE_COUNT ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public int evaluate() {
+        final var v = values;
+        final var o = next() * 7;
+        return Evaluator.evaluate(v[o], v[o + 1], v[o + 2], v[o + 3], v[o + 4], v[o + 5], v[o + 6]);
+    }
+
+    @Benchmark
+    public int bestOfSubsets() {
+        final var v = values;
+        final var o = next() * 7;
+        var best = Integer.MAX_VALUE;
+        for (var i = 0; i < 7; i++) {
+            for (var j = i + 1; j < 7; j++) {
+                final var s = new int[5];
+                var count = 0;
+                for (var k = 0; k < 7; k++) {
+                    if (k != i && k != j) {
+                        s[count++] = v[o + k];
+                    }
+                }
+                best = Math.min(best, Evaluator.evaluate(s[0], s[1], s[2], s[3], s[4]));
+            }
+        }
+        return best;
+    }
+
+    @Benchmark
+    public int bestOfHands() {
+        final var c = cards[next()];
+        var best = Integer.MAX_VALUE;
+        for (var i = 0; i < 7; i++) {
+            for (var j = i + 1; j < 7; j++) {
+                final var subset = new Card[5];
+                var count = 0;
+                for (var k = 0; k < 7; k++) {
+                    if (k != i && k != j) {
+                        subset[count++] = c[k];
+                    }
+                }
+                best = Math.min(best, new Hand(subset).evaluate());
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.jmp.poker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the 7-card state table with the 7-card evaluator, on random hands
+ * and on all turn and river cards of a flop.
+ *
+ * <p>On random hands every read of the table is likely a cache miss, while
+ * walking the runouts of a flop reuses the states of the shared cards.
+ *
+ * <p>The table is generated into a temporary file once per fork, which takes a few seconds.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SevenCardTableBenchmark {
+    private static final int SAMPLE_COUNT = 1 << 16;
+
+    private SevenCardTable table;
+    private int[] indexes;
+    private int[] values;
+    private long[] masks;
+    private int cursor;
+
+    @Setup
+    public void setup() throws IOException {
+        final var file = Files.createTempFile("states", ".bin");
+        file.toFile().deleteOnExit();
+        SevenCardTable.generate(file);
+        table = SevenCardTable.load(file);
+
+        final var deck = HandSamples.deck();
+        final var random = new SplittableRandom(42);
+        indexes = new int[SAMPLE_COUNT * 7];
+        values = new int[SAMPLE_COUNT * 7];
+        masks = new long[SAMPLE_COUNT];
+        for (var i = 0; i < SAMPLE_COUNT; i++) {
+            final var hand = HandSamples.randomHand(random, 7);
+            for (var j = 0; j < 7; j++) {
+                indexes[i * 7 + j] = hand[j];
+                values[i * 7 + j] = deck[hand[j]].getValue();
+                masks[i] |= 1L << hand[j];
+            }
+        }
+    }
+
+    @Benchmark
+    public int tableRunouts() {
+        final var o = next() * 7;
+        var state = SevenCardTable.START;
+        var mask = 0L;
+        for (var j = 0; j < 5; j++) {
+            state = table.next(state, indexes[o + j]);
+            mask |= 1L << indexes[o + j];
+        }
+        var sum = 0;
+        for (var turn = 0; turn < Card.DECK_SIZE; turn++) {
+            if ((mask & 1L << turn) == 0) {
+                final var turnState = table.next(state, turn);
+                for (var river = turn + 1; river < Card.DECK_SIZE; river++) {
+                    if ((mask & 1L << river) == 0) {
+                        sum += table.next(turnState, river);
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int evaluatorRunouts() {
+        final var o = next() * 7;
+        var mask = 0L;
+        for (var j = 0; j < 5; j++) {
+            mask |= 1L << indexes[o + j];
+        }
+        var sum = 0;
+        for (var turn = 0; turn < Card.DECK_SIZE; turn++) {
+            if ((mask & 1L << turn) == 0) {
+                for (var river = turn + 1; river < Card.DECK_SIZE; river++) {
+                    if ((mask & 1L << river) == 0) {
+                        sum += Evaluator.evaluate(mask | 1L << turn | 1L << river);
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private int next() {
+        final var index = cursor;
+        cursor = index + 1 == SAMPLE_COUNT ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public int table() {
+        final var c = indexes;
+        final var o = next() * 7;
+        return table.evaluate(c[o], c[o + 1], c[o + 2], c[o + 3], c[o + 4], c[o + 5], c[o + 6]);
+    }
+
+    @Benchmark
+    public int tableMask() {
+        return table.evaluate(masks[next()]);
+    }
+
+    @Benchmark
+    public int evaluator() {
+        final var v = values;
+        final var o = next() * 7;
+        return Evaluator.evaluate(v[o], v[o + 1], v[o + 2], v[o + 3], v[o + 4], v[o + 5], v[o + 6]);
+    }
+
+    @Benchmark
+    public int evaluatorMask() {
+        return Evaluator.evaluate(masks[next()]);
+    }
+}
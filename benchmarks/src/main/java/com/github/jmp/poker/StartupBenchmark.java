@@ -0,0 +1,41 @@
+package com.github.jmp.poker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the very first use of the evaluator in a fresh JVM,
+ * including the class initialization of {@link Tables}.
+ *
+ * <p>Every measurement runs in its own fork, so each sample is a cold start.
+ * The GC profiler reports the memory allocated during initialization.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+    @Benchmark
+    public int tablesInit() {
+        return Tables.PRIMES[0] + Tables.Flushes.TABLE[0] + Tables.Unique.TABLE[0]
+            + Tables.Hash.Adjust.TABLE[0] + Tables.Hash.Values.TABLE[0];
+    }
+
+    @Benchmark
+    public Card firstCard() {
+        return new Card(Rank.KING, Suit.CLUBS);
+    }
+
+    @Benchmark
+    public int firstEvaluate() {
+        return Hand.fromString("Kd 5s Jc Ah Qc").evaluate();
+    }
+}
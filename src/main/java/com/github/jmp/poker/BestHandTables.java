@@ -0,0 +1,142 @@
+package com.github.jmp.poker;
+
+import java.util.Arrays;
+
+/**
+ * Lookup tables for hands of more than five cards, built from {@link Tables}.
+ *
+ * <p>The tables give the value of the best 5-card hand that can be formed from
+ * the cards, and are split the same way as the 5-card tables:
+ * <ul>
+ * <li>{@link Flushes} - the best flush for a set of 5 to 7 ranks of the same suit</li>
+ * <li>{@link Unique} - the best straight or high card hand for 5 to 7 distinct ranks</li>
+ * <li>{@link Hash6} and {@link Hash7} - the best hand for 6 or 7 ranks with at
+ * least one repeated rank, keyed by the product of the rank primes</li>
+ * </ul>
+ *
+ * <p>Each table is a nested class, so it is only computed on first use.
+ */
+class BestHandTables {
+    private static final int RANK_MASKS = 1 << 13;
+
+    public static class Flushes {
+        public static final short[] TABLE = best(Tables.Flushes.TABLE);
+    }
+
+    public static class Unique {
+        public static final short[] TABLE = best(Tables.Unique.TABLE);
+    }
+
+    public static class Hash6 {
+        public static final PerfectHash TABLE = hash(6, 15, 12);
+    }
+
+    public static class Hash7 {
+        public static final PerfectHash TABLE = hash(7, 16, 13);
+    }
+
+    /**
+     * Extends a 5-card table indexed by rank bits to 6 and 7 rank bits.
+     *
+     * <p>The value of a set of ranks is the best value among its subsets with
+     * one rank less, so processing the masks in increasing order sees every
+     * subset before the sets containing it.
+     *
+     * @param table the 5-card table
+     * @return the extended table
+     */
+    private static short[] best(short[] table) {
+        final var best = new short[RANK_MASKS];
+        for (var mask = 0; mask < RANK_MASKS; mask++) {
+            final var count = Integer.bitCount(mask);
+            if (count == 5) {
+                best[mask] = table[mask];
+            } else if (count > 5) {
+                var value = Short.MAX_VALUE;
+                for (var bits = mask; bits != 0; bits &= bits - 1) {
+                    value = (short) Math.min(value, best[mask & ~Integer.lowestOneBit(bits)]);
+                }
+                best[mask] = value;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Builds the perfect hash table of all rank combinations of the given size
+     * that contain at least one repeated rank.
+     *
+     * @param size the number of cards
+     * @param bits the base-2 logarithm of the number of slots
+     * @param bucketBits the base-2 logarithm of the number of adjustment values
+     * @return the table
+     */
+    private static PerfectHash hash(int size, int bits, int bucketBits) {
+        final var keys = new int[Combinations.count(13 + size - 1, size)];
+        final var values = new short[keys.length];
+        final var ranks = new int[size];
+
+        // Every non-decreasing sequence of ranks is a combination of
+        // distinct numbers when the i-th rank is offset by i
+        final var combination = Combinations.first(size);
+        var count = 0;
+        do {
+            for (var i = 0; i < size; i++) {
+                ranks[i] = combination[i] - i;
+            }
+            if (ranks[size - 1] >= 13 || !isValid(ranks)) {
+                continue;
+            }
+
+            var product = 1;
+            for (var rank : ranks) {
+                product *= Tables.PRIMES[rank];
+            }
+            keys[count] = product;
+            values[count] = (short) bestOf(ranks);
+            count++;
+        } while (Combinations.next(combination) && combination[size - 1] < 13 + size - 1);
+
+        return new PerfectHash(Arrays.copyOf(keys, count), Arrays.copyOf(values, count), bits, bucketBits);
+    }
+
+    /**
+     * Checks that sorted ranks contain a repeated rank, but no rank more than four times.
+     */
+    private static boolean isValid(int[] ranks) {
+        var repeated = false;
+        for (var i = 1; i < ranks.length; i++) {
+            if (ranks[i] == ranks[i - 1]) {
+                repeated = true;
+                if (i >= 4 && ranks[i - 4] == ranks[i]) {
+                    return false;
+                }
+            }
+        }
+        return repeated;
+    }
+
+    /**
+     * Returns the value of the best non-flush 5-card hand formed from the given ranks.
+     */
+    private static int bestOf(int[] ranks) {
+        var best = Integer.MAX_VALUE;
+        for (var subset = 0; subset < 1 << ranks.length; subset++) {
+            if (Integer.bitCount(subset) != 5) {
+                continue;
+            }
+
+            // Alternate the suits so that the cards never form a flush
+            final var cards = new int[5];
+            var count = 0;
+            for (var i = 0; i < ranks.length; i++) {
+                if ((subset & (1 << i)) != 0) {
+                    cards[count] = Tables.DECK[(count % 4) * 13 + ranks[i]];
+                    count++;
+                }
+            }
+            best = Math.min(best, Evaluator.evaluate(cards[0], cards[1], cards[2], cards[3], cards[4]));
+        }
+        return best;
+    }
+}
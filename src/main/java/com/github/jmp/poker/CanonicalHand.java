@@ -0,0 +1,183 @@
+package com.github.jmp.poker;
+
+/**
+ * Represents the suit-canonical form of hole cards and a board.
+ *
+ * <p>Hands that only differ by a permutation of the suits, such as
+ * {@code Ah Kh} on {@code Qh 7h 2c} and {@code As Ks} on {@code Qs 7s 2d}, are
+ * equally strong, so results for one of them hold for all of them. Every
+ * such class of hands has one canonical form, which can be used as a cache
+ * key, and a multiplicity, the number of hands in the class, which weighs the
+ * result of the canonical form when summing over all hands.
+ *
+ * <p>The form is found without trying the 24 permutations: each suit is
+ * described by the 13-bit rank masks of its board and hole cards, the four
+ * suits are sorted by those masks, board first, and renamed clubs, diamonds,
+ * hearts and spades in that order. Two hands are in the same class exactly if
+ * their four suits have the same masks in some order, so sorting gives both
+ * the same form.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var canonical = CanonicalHand.of(CardSet.fromString("As Ks"), CardSet.fromString("Qs 7s 2d"));
+ * CardSet board = canonical.board(); // 7c Qc 2d
+ * int count = canonical.multiplicity(); // 12
+ * }</pre>
+ *
+ * @see CardSet#index()
+ */
+public final class CanonicalHand {
+    private static final int SUITS = 4;
+    private static final int RANKS = 13;
+    private static final int RANK_MASK = 0x1FFF;
+    private static final int HANDS = 24;
+
+    private final long hole;
+    private final long board;
+    private final int multiplicity;
+    private final int[] permutation;
+
+    private CanonicalHand(long hole, long board, int multiplicity, int[] permutation) {
+        this.hole = hole;
+        this.board = board;
+        this.multiplicity = multiplicity;
+        this.permutation = permutation;
+    }
+
+    /**
+     * Returns the canonical form of the given hole cards and board.
+     *
+     * <p>Either set may be empty, e.g. to canonicalize a board alone.
+     *
+     * @param hole the hole cards, at most 7
+     * @param board the board, at most 7 cards
+     * @return the canonical form
+     * @throws IllegalArgumentException if a set has more than 7 cards, or the sets overlap
+     */
+    public static CanonicalHand of(CardSet hole, CardSet board) {
+        if (hole.size() > Combinations.MAX_SIZE || board.size() > Combinations.MAX_SIZE) {
+            throw new IllegalArgumentException("At most 7 cards are supported.");
+        }
+        if (hole.intersects(board)) {
+            throw new IllegalArgumentException("Illegal cards.");
+        }
+
+        // The board ranks, then the hole ranks, then the suit itself, of each suit
+        final var keys = new int[SUITS];
+        for (var suit = 0; suit < SUITS; suit++) {
+            final var boardRanks = (int) (board.mask() >>> (suit * RANKS)) & RANK_MASK;
+            final var holeRanks = (int) (hole.mask() >>> (suit * RANKS)) & RANK_MASK;
+            keys[suit] = (boardRanks << RANKS | holeRanks) << 2 | suit;
+        }
+
+        // Sorting network for 4 keys, in descending order
+        swap(keys, 0, 1);
+        swap(keys, 2, 3);
+        swap(keys, 0, 2);
+        swap(keys, 1, 3);
+        swap(keys, 1, 2);
+
+        var canonicalHole = 0L;
+        var canonicalBoard = 0L;
+        var symmetries = 1;
+        var run = 1;
+        final var permutation = new int[SUITS];
+        for (var suit = 0; suit < SUITS; suit++) {
+            final var key = keys[suit];
+            permutation[key & 3] = suit;
+            canonicalHole |= (long) ((key >>> 2) & RANK_MASK) << (suit * RANKS);
+            canonicalBoard |= (long) (key >>> (RANKS + 2)) << (suit * RANKS);
+
+            // Suits with the same cards can be swapped without changing the hand
+            run = suit > 0 && key >>> 2 == keys[suit - 1] >>> 2 ? run + 1 : 1;
+            symmetries *= run;
+        }
+        return new CanonicalHand(canonicalHole, canonicalBoard, HANDS / symmetries, permutation);
+    }
+
+    /**
+     * Returns the canonical hole cards.
+     *
+     * @return the hole cards with their suits renamed
+     */
+    public CardSet hole() {
+        return new CardSet(hole);
+    }
+
+    /**
+     * Returns the canonical board.
+     *
+     * @return the board with its suits renamed
+     */
+    public CardSet board() {
+        return new CardSet(board);
+    }
+
+    /**
+     * Returns the number of hands with this canonical form.
+     *
+     * @return the number of distinct hole cards and boards that are suit
+     *         permutations of each other, between 1 and 24
+     */
+    public int multiplicity() {
+        return multiplicity;
+    }
+
+    /**
+     * Returns a number identifying this canonical form.
+     *
+     * <p>The number is made of the indexes of the canonical hole cards and
+     * board, see {@link CardSet#index()}, so it is unique among the forms with
+     * the same numbers of hole and board cards. It is not dense: most numbers
+     * belong to hands that are not canonical.
+     *
+     * @return the index of the hole cards times C(52, board size), plus the index of the board
+     */
+    public long index() {
+        final var boardSize = Long.bitCount(board);
+        return (long) Combinations.index(hole) * Combinations.count(Card.DECK_SIZE, boardSize)
+            + Combinations.index(board);
+    }
+
+    /**
+     * Renames the suits of other cards the way the hand was canonicalized.
+     *
+     * <p>This maps cards related to the original hand, such as an opponent's
+     * hole cards or dead cards, to the cards they correspond to in the
+     * canonical form.
+     *
+     * @param cards the cards to map
+     * @return the cards with their suits renamed
+     */
+    public CardSet map(CardSet cards) {
+        return new CardSet(SuitPermutations.mask(cards.mask(), permutation));
+    }
+
+    /**
+     * Returns the suit renaming; {@code permutation()[suit]} is the suit that {@code suit} maps to.
+     */
+    int[] permutation() {
+        return permutation;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CanonicalHand canonical && canonical.hole == hole && canonical.board == board;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hole * 31 + board);
+    }
+
+    @Override
+    public String toString() {
+        return hole() + " | " + board();
+    }
+
+    private static void swap(int[] keys, int i, int j) {
+        final var high = Math.max(keys[i], keys[j]);
+        keys[j] = Math.min(keys[i], keys[j]);
+        keys[i] = high;
+    }
+}
@@ -11,6 +11,9 @@ import static com.github.jmp.poker.Suit.SPADES;
  *
  * <p>Cards can be created from their rank and suit components, or parsed from
  * a two-character string representation (e.g., "Ks" for King of Spades).
+ * Since there are only 52 distinct cards, {@link #of(Rank, Suit)},
+ * {@link #of(int)} and {@link #fromString(String)} return shared, pre-built
+ * instances instead of allocating new ones.
  *
  * <p>String format examples:
  * <ul>
@@ -28,9 +31,23 @@ public class Card {
     private final Rank rank;
     private final Suit suit;
 
-    private static final String RANKS = "23456789TJQKA";
+    /** Rank characters, indexed by rank value. */
+    static final String RANKS = "23456789TJQKA";
     private static final String SUITS = "shdc";
 
+    /** Number of cards in a standard deck. */
+    public static final int DECK_SIZE = 52;
+
+    private static final Card[] CARDS = new Card[DECK_SIZE];
+
+    static {
+        for (var suit : Suit.values()) {
+            for (var rank : Rank.values()) {
+                CARDS[suit.ordinal() * 13 + rank.getValue()] = new Card(rank, suit);
+            }
+        }
+    }
+
     /**
      * Creates a new card with the specified rank and suit.
      *
@@ -48,7 +65,37 @@ public class Card {
     }
 
     /**
-     * Creates a new Card instance from its string representation.
+     * Returns the shared instance of the card with the specified rank and suit.
+     *
+     * @param rank the rank of the card
+     * @param suit the suit of the card
+     * @return the card with the given rank and suit
+     * @throws NullPointerException if rank or suit is null
+     */
+    public static Card of(Rank rank, Suit suit) {
+        return CARDS[suit.ordinal() * 13 + rank.getValue()];
+    }
+
+    /**
+     * Returns the shared instance of the card with the specified deck index.
+     *
+     * <p>The deck index of a card is {@code suit.ordinal() * 13 + rank.getValue()},
+     * so clubs come first and spades last, each from two to ace.
+     *
+     * @param index the deck index of the card (0-51)
+     * @return the card with the given deck index
+     * @throws IllegalArgumentException if the index is not in the valid range (0-51)
+     * @see #getIndex()
+     */
+    public static Card of(int index) {
+        if (index < 0 || index >= DECK_SIZE) {
+            throw new IllegalArgumentException("Invalid index: " + index);
+        }
+        return CARDS[index];
+    }
+
+    /**
+     * Returns the Card instance corresponding to its string representation.
      *
      * <p>The string must be exactly two characters: the first character represents
      * the rank, and the second character represents the suit.
@@ -59,7 +106,7 @@ public class Card {
      * <p>Suit characters: "s" (Spades), "h" (Hearts), "d" (Diamonds), "c" (Clubs)
      *
      * @param string the two-character string representation (e.g., "Ks", "2h")
-     * @return a new Card instance corresponding to the given string
+     * @return the shared Card instance corresponding to the given string
      * @throws IllegalArgumentException if string is null, not exactly 2 characters,
      *         or contains invalid rank/suit characters
      */
@@ -71,7 +118,7 @@ public class Card {
         final int rank = RANKS.indexOf(string.charAt(0));
         final int suit = SPADES.getValue() << SUITS.indexOf(string.charAt(1));
 
-        return new Card(Rank.fromValue(rank), Suit.fromValue(suit));
+        return of(Rank.fromValue(rank), Suit.fromValue(suit));
     }
 
     /**
@@ -94,6 +141,16 @@ public class Card {
         return suit;
     }
 
+    /**
+     * Returns the deck index of this card.
+     *
+     * @return the deck index between 0 and 51
+     * @see #of(int)
+     */
+    public int getIndex() {
+        return suit.ordinal() * 13 + rank.getValue();
+    }
+
     /**
      * Returns the string representation of this card.
      *
@@ -127,8 +184,9 @@ public class Card {
      * <p>This encoding enables efficient poker hand evaluation and comparison operations.
      *
      * @return the bit-packed integer value representing this card
+     * @see Evaluator
      */
-    int getValue() {
+    public int getValue() {
         return value;
     }
 }
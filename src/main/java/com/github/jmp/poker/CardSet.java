@@ -0,0 +1,335 @@
+package com.github.jmp.poker;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents an immutable set of cards, stored as a card mask with one bit per card.
+ *
+ * <p>The card with suit {@code s} and rank {@code r} is bit
+ * {@code s.ordinal() * 13 + r.getValue()} of the mask, which is the deck index
+ * returned by {@link Card#getIndex()}. This is the same card mask accepted by
+ * {@link Evaluator#evaluate(long)}, so set operations like dealing or removing
+ * dead cards are single bitwise operations.
+ *
+ * <p>Cards are iterated in the order of their deck index.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var dead = CardSet.fromString("Ah Kh 7c 8c 9c");
+ * var live = CardSet.FULL_DECK.minus(dead);
+ * int value = dead.add(Card.fromString("Tc")).add(Card.fromString("Jc")).evaluate();
+ * }</pre>
+ *
+ * @param mask the card mask, using only the lowest 52 bits
+ * @see Card
+ * @see Evaluator#evaluate(long)
+ */
+public record CardSet(long mask) implements Iterable<Card> {
+    /** The empty set. */
+    public static final CardSet EMPTY = new CardSet(0L);
+
+    /** The set of all 52 cards. */
+    public static final CardSet FULL_DECK = new CardSet((1L << Card.DECK_SIZE) - 1);
+
+    /**
+     * Constructs a new CardSet from a card mask.
+     *
+     * @param mask the card mask
+     * @throws IllegalArgumentException if bits above the 52 cards of the deck are set
+     */
+    public CardSet {
+        if ((mask & ~((1L << Card.DECK_SIZE) - 1)) != 0) {
+            throw new IllegalArgumentException("Invalid card mask: " + Long.toHexString(mask));
+        }
+    }
+
+    /**
+     * Creates a new CardSet containing the given cards.
+     *
+     * <p>Duplicate cards are only included once.
+     *
+     * @param cards the cards to include
+     * @return a set of the given cards
+     */
+    public static CardSet of(Card... cards) {
+        var mask = 0L;
+        for (var card : cards) {
+            mask |= 1L << card.getIndex();
+        }
+        return new CardSet(mask);
+    }
+
+    /**
+     * Creates a new CardSet containing the cards of the given hand.
+     *
+     * @param hand the hand
+     * @return a set of the 5 cards of the hand
+     */
+    public static CardSet of(Hand hand) {
+        return of(hand.cards());
+    }
+
+    /**
+     * Creates a new CardSet from its string representation.
+     *
+     * <p>The string is a space-separated list of cards in the format defined by
+     * {@link Card#fromString(String)}, for example "Ah Kh 7c". An empty string
+     * gives the empty set.
+     *
+     * @param string the space-separated string representation of the cards
+     * @return a set of the parsed cards
+     * @throws IllegalArgumentException if any card string is invalid or a card is repeated
+     */
+    public static CardSet fromString(String string) {
+        if (string.isEmpty()) {
+            return EMPTY;
+        }
+
+        var mask = 0L;
+        for (var part : string.split(" ")) {
+            final var bit = 1L << Card.fromString(part).getIndex();
+            if ((mask & bit) != 0) {
+                throw new IllegalArgumentException("Duplicate card: " + part);
+            }
+            mask |= bit;
+        }
+
+        return new CardSet(mask);
+    }
+
+    /**
+     * Returns a set with the given card added.
+     *
+     * @param card the card to add
+     * @return a set containing the cards of this set and the given card
+     */
+    public CardSet add(Card card) {
+        return new CardSet(mask | (1L << card.getIndex()));
+    }
+
+    /**
+     * Returns a set with the given card removed.
+     *
+     * @param card the card to remove
+     * @return a set containing the cards of this set except the given card
+     */
+    public CardSet remove(Card card) {
+        return new CardSet(mask & ~(1L << card.getIndex()));
+    }
+
+    /**
+     * Checks whether this set contains the given card.
+     *
+     * @param card the card
+     * @return {@code true} if the card is in this set, {@code false} otherwise
+     */
+    public boolean contains(Card card) {
+        return (mask & (1L << card.getIndex())) != 0;
+    }
+
+    /**
+     * Checks whether this set contains all cards of the given set.
+     *
+     * @param other the other set
+     * @return {@code true} if every card of the other set is in this set, {@code false} otherwise
+     */
+    public boolean containsAll(CardSet other) {
+        return (other.mask & ~mask) == 0;
+    }
+
+    /**
+     * Checks whether this set and the given set have any card in common.
+     *
+     * @param other the other set
+     * @return {@code true} if the sets share at least one card, {@code false} otherwise
+     */
+    public boolean intersects(CardSet other) {
+        return (mask & other.mask) != 0;
+    }
+
+    /**
+     * Returns the union of this set and the given set.
+     *
+     * @param other the other set
+     * @return a set containing the cards of both sets
+     */
+    public CardSet union(CardSet other) {
+        return new CardSet(mask | other.mask);
+    }
+
+    /**
+     * Returns the intersection of this set and the given set.
+     *
+     * @param other the other set
+     * @return a set containing the cards that are in both sets
+     */
+    public CardSet intersect(CardSet other) {
+        return new CardSet(mask & other.mask);
+    }
+
+    /**
+     * Returns the difference of this set and the given set.
+     *
+     * @param other the other set
+     * @return a set containing the cards of this set that are not in the other set
+     */
+    public CardSet minus(CardSet other) {
+        return new CardSet(mask & ~other.mask);
+    }
+
+    /**
+     * Returns the cards of the deck that are not in this set.
+     *
+     * @return the complement of this set within the 52-card deck
+     */
+    public CardSet complement() {
+        return new CardSet(FULL_DECK.mask & ~mask);
+    }
+
+    /**
+     * Returns the number of cards in this set.
+     *
+     * @return the number of cards, between 0 and 52
+     */
+    public int size() {
+        return Long.bitCount(mask);
+    }
+
+    /**
+     * Checks whether this set is empty.
+     *
+     * @return {@code true} if the set contains no cards, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return mask == 0;
+    }
+
+    /**
+     * Returns the index of this set among the sets of the same size.
+     *
+     * <p>Sets of k cards are numbered from 0 to C(52, k) - 1 in colexicographic
+     * order, so that hands can be stored as plain {@code int} indexes, or used to
+     * address a table such as the one of {@link Evaluator#evaluateIndex(int)}.
+     *
+     * @return the index of the set, between 0 and C(52, k) - 1
+     * @throws IllegalArgumentException if the set has more than 7 cards
+     * @see #fromIndex(int, int)
+     */
+    public int index() {
+        if (size() > Combinations.MAX_SIZE) {
+            throw new IllegalArgumentException("At most 7 cards are supported.");
+        }
+        return Combinations.index(mask);
+    }
+
+    /**
+     * Returns the set of the given size with the given index.
+     *
+     * @param index the index of the set, see {@link #index()}
+     * @param size the number of cards, between 0 and 7
+     * @return the set with the index
+     * @throws IllegalArgumentException if the size is not between 0 and 7, or the
+     *         index is not between 0 and C(52, size) - 1
+     */
+    public static CardSet fromIndex(int index, int size) {
+        if (size < 0 || size > Combinations.MAX_SIZE) {
+            throw new IllegalArgumentException("Invalid size: " + size);
+        }
+        if (index < 0 || index >= Combinations.count(Card.DECK_SIZE, size)) {
+            throw new IllegalArgumentException("Invalid index: " + index);
+        }
+        return new CardSet(Combinations.mask(index, size));
+    }
+
+    /**
+     * Evaluates the cards of this set as a poker hand.
+     *
+     * <p>For 5 cards, the result is the same as {@link Hand#evaluate()}. For
+     * 6 or 7 cards, it is the value of the best 5-card hand.
+     *
+     * @return the value of the best 5-card hand, between 1 (best) and 7462 (worst)
+     * @throws IllegalArgumentException if the set does not contain 5 to 7 cards
+     * @see Evaluator#evaluate(long)
+     */
+    public int evaluate() {
+        return Evaluator.evaluate(mask);
+    }
+
+    /**
+     * Returns the cards of this set as an array, in the order of their deck index.
+     *
+     * @return a new array of the cards
+     */
+    public Card[] toArray() {
+        final var cards = new Card[size()];
+
+        var remaining = mask;
+        for (var i = 0; i < cards.length; i++) {
+            cards[i] = Card.of(Long.numberOfTrailingZeros(remaining));
+            remaining &= remaining - 1;
+        }
+
+        return cards;
+    }
+
+    /**
+     * Returns the cards of this set as a hand.
+     *
+     * @return a new hand of the cards, in the order of their deck index
+     * @throws IllegalArgumentException if the set does not contain exactly 5 cards
+     */
+    public Hand toHand() {
+        return new Hand(toArray());
+    }
+
+    /**
+     * Returns an iterator over the cards of this set, in the order of their deck index.
+     *
+     * @return an iterator over the cards
+     */
+    @Override
+    public Iterator<Card> iterator() {
+        return new Iterator<>() {
+            private long remaining = mask;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public Card next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                final var card = Card.of(Long.numberOfTrailingZeros(remaining));
+                remaining &= remaining - 1;
+                return card;
+            }
+        };
+    }
+
+    /**
+     * Returns the string representation of this set.
+     *
+     * <p>Creates a space-separated string of the cards in the order of their
+     * deck index, for example "2c Kd Ah". The result can be parsed with
+     * {@link #fromString(String)}.
+     *
+     * @return a space-separated string representation of the cards
+     */
+    @Override
+    public String toString() {
+        final var builder = new StringBuilder();
+
+        for (var card : this) {
+            if (!builder.isEmpty()) {
+                builder.append(' ');
+            }
+            builder.append(card);
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.jmp.poker;
+
+/**
+ * Allocation-free enumeration and indexing of card combinations.
+ *
+ * <p>Cards are identified by their deck index (0-51), i.e. their position
+ * in {@link Tables#DECK}. A combination is a strictly ascending array of
+ * deck indexes. Combinations are ordered colexicographically, which gives
+ * every k-card combination a unique index between 0 and C(52, k) - 1
+ * without storing any of them.
+ *
+ * <p>Example of walking through all 5-card hands in index order:
+ * <pre>{@code
+ * int[] cards = Combinations.first(5);
+ * do {
+ *     // use cards
+ * } while (Combinations.next(cards));
+ * }</pre>
+ */
+final class Combinations {
+    /** Number of cards in a standard deck. */
+    static final int CARDS_IN_DECK = 52;
+
+    /** Largest combination size supported by the indexing methods. */
+    static final int MAX_SIZE = 7;
+
+    private static final int[][] BINOMIALS = new int[CARDS_IN_DECK + 1][MAX_SIZE + 1];
+
+    static {
+        BINOMIALS[0][0] = 1;
+        for (var n = 1; n <= CARDS_IN_DECK; n++) {
+            BINOMIALS[n][0] = 1;
+            for (var k = 1; k <= MAX_SIZE; k++) {
+                BINOMIALS[n][k] = BINOMIALS[n - 1][k - 1] + BINOMIALS[n - 1][k];
+            }
+        }
+    }
+
+    private Combinations() {
+    }
+
+    /**
+     * Returns the binomial coefficient C(n, k).
+     *
+     * @param n the number of elements (0-52)
+     * @param k the combination size (0-7)
+     * @return the number of k-element combinations of n elements
+     */
+    static int count(int n, int k) {
+        return BINOMIALS[n][k];
+    }
+
+    /**
+     * Returns the first combination of the given size, i.e. {@code {0, 1, ..., size - 1}}.
+     *
+     * @param size the number of cards in the combination
+     * @return a new array holding the first combination
+     */
+    static int[] first(int size) {
+        final var cards = new int[size];
+        for (var i = 0; i < size; i++) {
+            cards[i] = i;
+        }
+        return cards;
+    }
+
+    /**
+     * Advances the given combination in place to the next one in colexicographic order.
+     *
+     * @param cards the ascending deck indexes of the current combination
+     * @return {@code true} if the combination was advanced, {@code false} if it was the last one
+     */
+    static boolean next(int[] cards) {
+        final var last = cards.length - 1;
+        for (var i = 0; i < last; i++) {
+            if (cards[i] + 1 < cards[i + 1]) {
+                cards[i]++;
+                for (var j = 0; j < i; j++) {
+                    cards[j] = j;
+                }
+                return true;
+            }
+        }
+
+        if (cards[last] + 1 < CARDS_IN_DECK) {
+            cards[last]++;
+            for (var j = 0; j < last; j++) {
+                cards[j] = j;
+            }
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the colexicographic index of the given combination.
+     *
+     * @param cards the ascending deck indexes of the combination (at most 7)
+     * @return the index of the combination between 0 and C(52, k) - 1
+     */
+    static int index(int[] cards) {
+        var index = 0;
+        for (var i = 0; i < cards.length; i++) {
+            index += BINOMIALS[cards[i]][i + 1];
+        }
+        return index;
+    }
+
+    /**
+     * Writes the combination with the given colexicographic index into {@code cards}.
+     *
+     * <p>The size of the combination is the length of the array.
+     *
+     * @param index the index of the combination
+     * @param cards the array receiving the ascending deck indexes
+     */
+    static void unindex(int index, int[] cards) {
+        var card = CARDS_IN_DECK - 1;
+        for (var i = cards.length; i > 0; i--) {
+            while (BINOMIALS[card][i] > index) {
+                card--;
+            }
+            cards[i - 1] = card;
+            index -= BINOMIALS[card][i];
+            card--;
+        }
+    }
+
+    /**
+     * Returns the colexicographic index of the combination given as a card mask.
+     *
+     * <p>Same as {@link #index(int[])} with the set bits of the mask as the cards.
+     *
+     * @param mask the card mask of the combination (at most 7 cards)
+     * @return the index of the combination between 0 and C(52, k) - 1
+     */
+    static int index(long mask) {
+        var index = 0;
+        for (var i = 1; mask != 0; i++, mask &= mask - 1) {
+            index += BINOMIALS[Long.numberOfTrailingZeros(mask)][i];
+        }
+        return index;
+    }
+
+    /**
+     * Returns the card mask of the combination with the given colexicographic index.
+     *
+     * @param index the index of the combination
+     * @param size the number of cards in the combination (at most 7)
+     * @return the card mask of the combination
+     */
+    static long mask(int index, int size) {
+        var mask = 0L;
+        var card = CARDS_IN_DECK - 1;
+        for (var i = size; i > 0; i--) {
+            while (BINOMIALS[card][i] > index) {
+                card--;
+            }
+            mask |= 1L << card;
+            index -= BINOMIALS[card][i];
+            card--;
+        }
+        return mask;
+    }
+}
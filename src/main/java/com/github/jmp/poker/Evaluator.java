@@ -0,0 +1,481 @@
+package com.github.jmp.poker;
+
+import java.nio.IntBuffer;
+import java.util.stream.IntStream;
+
+/**
+ * Allocation-free poker hand evaluation on primitive card representations.
+ *
+ * <p>Cards can be passed in two forms:
+ * <ul>
+ * <li>bit-packed card values, as returned by {@link Card#getValue()}</li>
+ * <li>a card mask, a {@code long} with one bit per card, where the card with
+ * suit {@code s} and rank {@code r} is bit {@code s.ordinal() * 13 + r.getValue()}</li>
+ * </ul>
+ *
+ * <p>Hands of 5 to 7 cards are supported. The results use the same scale as
+ * {@link Hand#evaluate()}: an integer between 1 (royal flush) and 7462
+ * (7-5-4-3-2 offsuit). The value of a 6-card or 7-card hand is the value of
+ * the best 5-card hand that can be formed from its cards.
+ *
+ * <p>For speed, the methods taking card values do not check for duplicate
+ * cards. Callers that cannot guarantee distinct cards should check them with
+ * {@link #hasDuplicates(int, int, int, int, int)} or by counting the bits of
+ * a card mask first.
+ *
+ * <p>Large numbers of 5-card hands can be evaluated in one call with
+ * {@link #evaluateAll(int[], short[])}, which reads the card values from a
+ * flat array and writes the results to a caller-supplied array.
+ *
+ * @see Hand#evaluate()
+ */
+public final class Evaluator {
+    /** Number of hands evaluated by each task of {@link #evaluateAllParallel(int[], short[])}. */
+    private static final int CHUNK_SIZE = 1 << 14;
+
+    /** Whether the {@code jdk.incubator.vector} module was added to the JVM. */
+    private static final boolean VECTOR_API = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private Evaluator() {
+    }
+
+    /**
+     * Evaluates a 5-card hand given as bit-packed card values.
+     *
+     * <p>The cards must be distinct; duplicates are not detected and
+     * produce an undefined result.
+     *
+     * @param c1 the value of the first card
+     * @param c2 the value of the second card
+     * @param c3 the value of the third card
+     * @param c4 the value of the fourth card
+     * @param c5 the value of the fifth card
+     * @return the value of the hand, between 1 (best) and 7462 (worst)
+     * @see Card#getValue()
+     */
+    public static int evaluate(int c1, int c2, int c3, int c4, int c5) {
+        // Calculate index in the flushes/unique table
+        final int index = (c1 | c2 | c3 | c4 | c5) >> 16;
+
+        // Flushes, including straight flushes
+        if ((c1 & c2 & c3 & c4 & c5 & 0xF000) != 0) {
+            return Tables.Flushes.TABLE[index];
+        }
+
+        // Straight and high card hands
+        final int value = Tables.Unique.TABLE[index];
+        if (value != 0) {
+            return value;
+        }
+
+        // Remaining cards
+        final int product = (c1 & 0xFF) * (c2 & 0xFF) * (c3 & 0xFF) * (c4 & 0xFF) * (c5 & 0xFF);
+        return Tables.Hash.Values.TABLE[hash(product)];
+    }
+
+    /**
+     * Evaluates a 6-card hand given as bit-packed card values.
+     *
+     * <p>Works like {@link #evaluate(int, int, int, int, int, int, int)},
+     * with tables for six cards.
+     *
+     * <p>The cards must be distinct; duplicates are not detected and
+     * produce an undefined result.
+     *
+     * @param c1 the value of the first card
+     * @param c2 the value of the second card
+     * @param c3 the value of the third card
+     * @param c4 the value of the fourth card
+     * @param c5 the value of the fifth card
+     * @param c6 the value of the sixth card
+     * @return the value of the best 5-card hand, between 1 (best) and 7462 (worst)
+     * @see Card#getValue()
+     */
+    public static int evaluate(int c1, int c2, int c3, int c4, int c5, int c6) {
+        // Flushes, including straight flushes
+        final int suits = suit(c1) + suit(c2) + suit(c3) + suit(c4) + suit(c5) + suit(c6);
+        final int flush = flushSuit(suits);
+        if (flush != 0) {
+            final int index = (flushRanks(c1, flush) | flushRanks(c2, flush) | flushRanks(c3, flush)
+                | flushRanks(c4, flush) | flushRanks(c5, flush) | flushRanks(c6, flush)) >> 16;
+            return BestHandTables.Flushes.TABLE[index];
+        }
+
+        // Straight and high card hands
+        final int index = (c1 | c2 | c3 | c4 | c5 | c6) >> 16;
+        if (Integer.bitCount(index) == 6) {
+            return BestHandTables.Unique.TABLE[index];
+        }
+
+        // Remaining cards
+        final int product = (c1 & 0xFF) * (c2 & 0xFF) * (c3 & 0xFF) * (c4 & 0xFF) * (c5 & 0xFF) * (c6 & 0xFF);
+        return BestHandTables.Hash6.TABLE.get(product);
+    }
+
+    /**
+     * Evaluates a 7-card hand given as bit-packed card values.
+     *
+     * <p>Instead of evaluating all 21 5-card subsets, the hand is evaluated
+     * with the same three steps as a 5-card hand, using tables that already
+     * hold the best 5-card value: flushes by the ranks of the flush suit,
+     * seven distinct ranks by their rank bits, and everything else by the
+     * product of the rank primes.
+     *
+     * <p>The cards must be distinct; duplicates are not detected and
+     * produce an undefined result.
+     *
+     * @param c1 the value of the first card
+     * @param c2 the value of the second card
+     * @param c3 the value of the third card
+     * @param c4 the value of the fourth card
+     * @param c5 the value of the fifth card
+     * @param c6 the value of the sixth card
+     * @param c7 the value of the seventh card
+     * @return the value of the best 5-card hand, between 1 (best) and 7462 (worst)
+     * @see Card#getValue()
+     */
+    public static int evaluate(int c1, int c2, int c3, int c4, int c5, int c6, int c7) {
+        // Flushes, including straight flushes. With 7 cards there can be at
+        // most one flush suit, and no four of a kind or full house beside it.
+        final int suits = suit(c1) + suit(c2) + suit(c3) + suit(c4) + suit(c5) + suit(c6) + suit(c7);
+        final int flush = flushSuit(suits);
+        if (flush != 0) {
+            final int index = (flushRanks(c1, flush) | flushRanks(c2, flush) | flushRanks(c3, flush)
+                | flushRanks(c4, flush) | flushRanks(c5, flush) | flushRanks(c6, flush)
+                | flushRanks(c7, flush)) >> 16;
+            return BestHandTables.Flushes.TABLE[index];
+        }
+
+        // Straight and high card hands
+        final int index = (c1 | c2 | c3 | c4 | c5 | c6 | c7) >> 16;
+        if (Integer.bitCount(index) == 7) {
+            return BestHandTables.Unique.TABLE[index];
+        }
+
+        // Remaining cards
+        final int product = (c1 & 0xFF) * (c2 & 0xFF) * (c3 & 0xFF) * (c4 & 0xFF) * (c5 & 0xFF)
+            * (c6 & 0xFF) * (c7 & 0xFF);
+        return BestHandTables.Hash7.TABLE.get(product);
+    }
+
+    /**
+     * Evaluates a hand of 5 to 7 cards from running totals of its cards.
+     *
+     * <p>This is {@link #evaluate(long)} with the per-card work done ahead of
+     * time, so that callers keeping the totals of a partial hand only have to
+     * add the remaining cards.
+     *
+     * @param mask the card mask of the 5 to 7 cards
+     * @param suits the sum of {@link #suit(int)} over the cards
+     * @param product the product of the rank primes of the cards, wrapping on overflow
+     * @return the value of the best 5-card hand, between 1 (best) and 7462 (worst)
+     */
+    static int evaluate(long mask, int suits, int product) {
+        final int flush = flushSuit(suits);
+        if (flush != 0) {
+            // Card masks put clubs in the lowest 13 bits, suit bits put spades lowest
+            final int shift = (15 - Integer.numberOfTrailingZeros(flush)) * 13;
+            return BestHandTables.Flushes.TABLE[(int) (mask >>> shift) & 0x1FFF];
+        }
+
+        final int count = Long.bitCount(mask);
+        final int index = (int) (mask | mask >>> 13 | mask >>> 26 | mask >>> 39) & 0x1FFF;
+        if (Integer.bitCount(index) == count) {
+            return BestHandTables.Unique.TABLE[index];
+        }
+
+        return switch (count) {
+            case 5 -> Tables.Hash.Values.TABLE[hash(product)];
+            case 6 -> BestHandTables.Hash6.TABLE.get(product);
+            default -> BestHandTables.Hash7.TABLE.get(product);
+        };
+    }
+
+    /**
+     * Evaluates a hand of 5 to 7 cards given as a card mask.
+     *
+     * @param mask the card mask with 5 to 7 bits set
+     * @return the value of the best 5-card hand, between 1 (best) and 7462 (worst)
+     * @throws IllegalArgumentException if the mask does not contain 5 to 7 cards
+     */
+    public static int evaluate(long mask) {
+        final int count = Long.bitCount(mask);
+        if (count < 5 || count > 7) {
+            throw new IllegalArgumentException("Between 5 and 7 cards are required.");
+        }
+
+        final int c1 = Tables.DECK[Long.numberOfTrailingZeros(mask)];
+        mask &= mask - 1;
+        final int c2 = Tables.DECK[Long.numberOfTrailingZeros(mask)];
+        mask &= mask - 1;
+        final int c3 = Tables.DECK[Long.numberOfTrailingZeros(mask)];
+        mask &= mask - 1;
+        final int c4 = Tables.DECK[Long.numberOfTrailingZeros(mask)];
+        mask &= mask - 1;
+        final int c5 = Tables.DECK[Long.numberOfTrailingZeros(mask)];
+        if (count == 5) {
+            return evaluate(c1, c2, c3, c4, c5);
+        }
+
+        mask &= mask - 1;
+        final int c6 = Tables.DECK[Long.numberOfTrailingZeros(mask)];
+        if (count == 6) {
+            return evaluate(c1, c2, c3, c4, c5, c6);
+        }
+
+        mask &= mask - 1;
+        final int c7 = Tables.DECK[Long.numberOfTrailingZeros(mask)];
+        return evaluate(c1, c2, c3, c4, c5, c6, c7);
+    }
+
+    /**
+     * Evaluates the 5-card hand with the given index.
+     *
+     * <p>The values of all 2,598,960 hands are computed once, on first use,
+     * into a table of about 5 MB addressed by the colexicographic index of
+     * the hand, so each call is a single array read.
+     *
+     * @param index the index of the hand, see {@link CardSet#index()}
+     * @return the value of the hand, between 1 (best) and 7462 (worst)
+     * @throws ArrayIndexOutOfBoundsException if the index is not between 0 and 2,598,959
+     */
+    public static int evaluateIndex(int index) {
+        return IndexedValues.TABLE[index];
+    }
+
+    /**
+     * Evaluates 5-card hands given as a flat array of bit-packed card values.
+     *
+     * <p>Hand {@code i} is made of the values {@code cards[5 * i]} to
+     * {@code cards[5 * i + 4]}, and its value is written to {@code results[i]}.
+     * Neither array is allocated or copied, and the cards are not checked
+     * for duplicates.
+     *
+     * @param cards the card values, 5 per hand
+     * @param results the array receiving the value of each hand
+     * @throws IllegalArgumentException if the number of card values is not a multiple of 5,
+     *         or if the results array is too small
+     * @see #evaluate(int, int, int, int, int)
+     */
+    public static void evaluateAll(int[] cards, short[] results) {
+        evaluateRange(cards, results, 0, count(cards.length, results));
+    }
+
+    /**
+     * Evaluates 5-card hands given as a buffer of bit-packed card values.
+     *
+     * <p>The card values between the position and the limit of the buffer are
+     * read as in {@link #evaluateAll(int[], short[])}. The position of the
+     * buffer is not changed.
+     *
+     * @param cards the buffer of card values, 5 per hand
+     * @param results the array receiving the value of each hand
+     * @throws IllegalArgumentException if the number of remaining card values is not
+     *         a multiple of 5, or if the results array is too small
+     */
+    public static void evaluateAll(IntBuffer cards, short[] results) {
+        final int count = count(cards.remaining(), results);
+        var offset = cards.position();
+        for (var i = 0; i < count; i++, offset += 5) {
+            results[i] = (short) evaluate(
+                cards.get(offset), cards.get(offset + 1), cards.get(offset + 2), cards.get(offset + 3),
+                cards.get(offset + 4)
+            );
+        }
+    }
+
+    /**
+     * Evaluates 5-card hands like {@link #evaluateAll(int[], short[])}, split across
+     * the threads of the common fork/join pool.
+     *
+     * <p>This only pays off for large arrays; small arrays are evaluated
+     * on the calling thread.
+     *
+     * @param cards the card values, 5 per hand
+     * @param results the array receiving the value of each hand
+     * @throws IllegalArgumentException if the number of card values is not a multiple of 5,
+     *         or if the results array is too small
+     */
+    public static void evaluateAllParallel(int[] cards, short[] results) {
+        final int count = count(cards.length, results);
+        if (count <= CHUNK_SIZE) {
+            evaluateRange(cards, results, 0, count);
+            return;
+        }
+
+        final int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk ->
+            evaluateRange(cards, results, chunk * CHUNK_SIZE, Math.min(count, (chunk + 1) * CHUNK_SIZE))
+        );
+    }
+
+    /**
+     * Evaluates 5-card hands like {@link #evaluateAll(int[], short[])}, using
+     * the Vector API to evaluate several hands per instruction.
+     *
+     * <p>The Vector API is an incubating JDK module, so it is only used when
+     * the JVM is started with {@code --add-modules jdk.incubator.vector}.
+     * Otherwise, this method falls back to {@link #evaluateAll(int[], short[])}.
+     * The table lookups are still scalar, so it is not necessarily faster;
+     * see {@code BatchBenchmark} in the benchmarks.
+     *
+     * @param cards the card values, 5 per hand
+     * @param results the array receiving the value of each hand
+     * @throws IllegalArgumentException if the number of card values is not a multiple of 5,
+     *         or if the results array is too small
+     */
+    public static void evaluateAllVectorized(int[] cards, short[] results) {
+        final int count = count(cards.length, results);
+        if (VECTOR_API) {
+            VectorEvaluator.evaluateRange(cards, results, 0, count);
+        } else {
+            evaluateRange(cards, results, 0, count);
+        }
+    }
+
+    /**
+     * Returns whether {@link #evaluateAllVectorized(int[], short[])} uses the Vector API.
+     *
+     * @return {@code true} if the {@code jdk.incubator.vector} module is present, {@code false} otherwise
+     */
+    public static boolean isVectorized() {
+        return VECTOR_API;
+    }
+
+    private static int count(int length, short[] results) {
+        if (length % 5 != 0) {
+            throw new IllegalArgumentException("The number of cards must be a multiple of 5.");
+        }
+        final int count = length / 5;
+        if (results.length < count) {
+            throw new IllegalArgumentException("The results array is too small.");
+        }
+        return count;
+    }
+
+    private static void evaluateRange(int[] cards, short[] results, int from, int to) {
+        for (int i = from, offset = from * 5; i < to; i++, offset += 5) {
+            results[i] = (short) evaluate(
+                cards[offset], cards[offset + 1], cards[offset + 2], cards[offset + 3], cards[offset + 4]
+            );
+        }
+    }
+
+    /**
+     * Checks whether any of the given bit-packed card values are equal.
+     *
+     * <p>The check sets one bit per card in a card mask and counts the bits,
+     * so it neither allocates nor sorts.
+     *
+     * @param c1 the value of the first card
+     * @param c2 the value of the second card
+     * @param c3 the value of the third card
+     * @param c4 the value of the fourth card
+     * @param c5 the value of the fifth card
+     * @return {@code true} if duplicates are found, {@code false} otherwise
+     */
+    public static boolean hasDuplicates(int c1, int c2, int c3, int c4, int c5) {
+        return Long.bitCount(mask(c1) | mask(c2) | mask(c3) | mask(c4) | mask(c5)) != 5;
+    }
+
+    /**
+     * Returns the card mask bit of the given bit-packed card value.
+     *
+     * @param value the bit-packed card value
+     * @return a card mask containing only the given card
+     * @see Card#getValue()
+     */
+    public static long mask(int value) {
+        return 1L << index(value);
+    }
+
+    /**
+     * Returns the deck index ({@code suit * 13 + rank}) of a bit-packed card value.
+     *
+     * @param value the bit-packed card value
+     * @return the deck index between 0 and 51
+     */
+    static int index(int value) {
+        return (3 - Integer.numberOfTrailingZeros(value >>> 12)) * 13 + ((value >>> 8) & 0xF);
+    }
+
+    /**
+     * Returns the suit of a bit-packed card value as a count of one in a 4-bit field.
+     *
+     * <p>Adding up the results of several cards counts the cards of each suit,
+     * spades in the lowest field and clubs in the highest.
+     *
+     * @param value the bit-packed card value
+     * @return the suit count field of the card
+     */
+    static int suit(int value) {
+        return 1 << (Integer.numberOfTrailingZeros(value >>> 12) << 2);
+    }
+
+    /**
+     * Returns the suit bit of the suit with at least 5 cards, if any.
+     *
+     * @param suits the suit counts of up to 7 cards, as summed from {@link #suit(int)}
+     * @return the suit bit of the flush suit, or 0 if there is no flush
+     */
+    static int flushSuit(int suits) {
+        // Adding 3 to a count of 5 or more sets the highest bit of its field
+        final int flush = (suits + 0x3333) & 0x8888;
+        return flush == 0 ? 0 : 0x1000 << (Integer.numberOfTrailingZeros(flush) >>> 2);
+    }
+
+    private static int flushRanks(int value, int suit) {
+        return (value & suit) != 0 ? value : 0;
+    }
+
+    /**
+     * Values of all 5-card hands by colexicographic index, computed on first use.
+     */
+    private static final class IndexedValues {
+        static final short[] TABLE = new short[Combinations.count(Combinations.CARDS_IN_DECK, 5)];
+
+        static {
+            final var cards = Combinations.first(5);
+            var index = 0;
+            do {
+                TABLE[index++] = (short) evaluate(
+                    Tables.DECK[cards[0]], Tables.DECK[cards[1]], Tables.DECK[cards[2]], Tables.DECK[cards[3]],
+                    Tables.DECK[cards[4]]
+                );
+            } while (Combinations.next(cards));
+        }
+    }
+
+    /**
+     * Computes a hash value for the given key using the Suffecool algorithm.
+     *
+     * <p>This hash function is specifically designed for poker hand evaluation,
+     * mapping prime number products of card ranks to unique hash values that
+     * can be used to look up hand rankings in pre-computed tables.
+     *
+     * <p>The algorithm applies a series of bit manipulations and uses an
+     * adjustment table to ensure proper distribution and collision avoidance
+     * for all possible poker hand combinations.
+     *
+     * @param key the prime number product of the card ranks
+     * @return the computed hash value for table lookup
+     */
+    static int hash(int key) {
+        key += 0xE91AAA35;
+        key ^= key >>> 16;
+        key += key << 8;
+        key ^= key >>> 4;
+        return adjust(key);
+    }
+
+    /**
+     * Finishes {@link #hash(int)} from the mixed key, i.e. the key after its
+     * shifts and additions, which {@link VectorEvaluator} computes for several keys at once.
+     *
+     * @param mixed the mixed prime product
+     * @return the computed hash value for table lookup
+     */
+    static int adjust(int mixed) {
+        return ((mixed + (mixed << 2)) >>> 19) ^ Tables.Hash.Adjust.TABLE[(mixed >>> 8) & 0x1FF];
+    }
+}
@@ -0,0 +1,221 @@
+package com.github.jmp.poker;
+
+import java.util.Arrays;
+
+/**
+ * Catalogue of the 1,755 strategically distinct flops.
+ *
+ * <p>Of the 22,100 flops, those that only differ by a permutation of the
+ * suits play the same, so each of them is represented by its
+ * {@link CanonicalHand canonical} flop, with a weight counting the flops it
+ * stands for. Reports over all flops whose inputs treat the suits alike,
+ * such as textures or the equity of ranges without suit-specific combos,
+ * can loop over the 1,755 canonical flops and weigh each result instead:
+ *
+ * <pre>{@code
+ * var monotone = 0;
+ * for (var i = 0; i < Flops.COUNT; i++) {
+ *     if (Flops.distinctSuits(i) == 1) {
+ *         monotone += Flops.weight(i);
+ *     }
+ * }
+ * double share = monotone / 22_100.0;
+ * }</pre>
+ *
+ * <p>Each flop also comes with texture features, kept in primitive arrays
+ * indexed like the flops: the number of distinct ranks and suits, the number
+ * of rank pairs that make a straight with it, and the value of the nuts.
+ * The catalogue is built on first use, which takes a few tens of milliseconds.
+ *
+ * @see CanonicalHand
+ */
+public final class Flops {
+    /** Number of suit-isomorphic flops. */
+    public static final int COUNT = 1755;
+
+    private static final int SIZE = 3;
+    private static final int RANKS = 13;
+
+    /** Rank masks of the 10 straights, including the wheel. */
+    private static final int[] STRAIGHTS = new int[10];
+
+    static {
+        for (var high = 4; high < RANKS; high++) {
+            STRAIGHTS[high - 4] = 0x1F << (high - 4);
+        }
+        STRAIGHTS[9] = 0x100F; // A-2-3-4-5
+    }
+
+    private Flops() {
+    }
+
+    /**
+     * Returns a canonical flop.
+     *
+     * @param index the index of the flop, between 0 and 1754
+     * @return the canonical flop
+     * @throws IllegalArgumentException if the index is invalid
+     */
+    public static CardSet flop(int index) {
+        return new CardSet(Catalogue.MASKS[check(index)]);
+    }
+
+    /**
+     * Returns the index of the canonical flop of any flop.
+     *
+     * @param flop a flop of 3 cards
+     * @return the index of its canonical flop, between 0 and 1754
+     * @throws IllegalArgumentException if the flop does not have 3 cards
+     */
+    public static int indexOf(CardSet flop) {
+        if (flop.size() != SIZE) {
+            throw new IllegalArgumentException("A flop must have 3 cards.");
+        }
+        return Arrays.binarySearch(Catalogue.MASKS, CanonicalHand.of(CardSet.EMPTY, flop).board().mask());
+    }
+
+    /**
+     * Returns the number of flops that are suit permutations of a canonical flop.
+     *
+     * <p>The weights of all canonical flops add up to 22,100.
+     *
+     * @param index the index of the flop, between 0 and 1754
+     * @return the weight of the flop, between 4 and 24
+     * @throws IllegalArgumentException if the index is invalid
+     */
+    public static int weight(int index) {
+        return Catalogue.WEIGHTS[check(index)];
+    }
+
+    /**
+     * Returns the number of distinct ranks of a flop.
+     *
+     * @param index the index of the flop, between 0 and 1754
+     * @return 3 for an unpaired flop, 2 for a paired flop, 1 for trips
+     * @throws IllegalArgumentException if the index is invalid
+     */
+    public static int distinctRanks(int index) {
+        return Catalogue.RANK_COUNTS[check(index)];
+    }
+
+    /**
+     * Returns the number of distinct suits of a flop.
+     *
+     * @param index the index of the flop, between 0 and 1754
+     * @return 1 for a monotone flop, 2 for a two-tone flop, 3 for a rainbow flop
+     * @throws IllegalArgumentException if the index is invalid
+     */
+    public static int distinctSuits(int index) {
+        return Catalogue.SUIT_COUNTS[check(index)];
+    }
+
+    /**
+     * Returns the straight connectivity of a flop.
+     *
+     * @param index the index of the flop, between 0 and 1754
+     * @return the number of pairs of distinct hole card ranks that make a straight
+     *         with the flop, between 0 for a disconnected flop and 3
+     * @throws IllegalArgumentException if the index is invalid
+     */
+    public static int straights(int index) {
+        return Catalogue.STRAIGHT_COUNTS[check(index)];
+    }
+
+    /**
+     * Returns the value of the best hand that can be made on a flop.
+     *
+     * @param index the index of the flop, between 0 and 1754
+     * @return the best value of the flop with any two hole cards,
+     *         between 1 (best) and 7462 (worst)
+     * @throws IllegalArgumentException if the index is invalid
+     */
+    public static int nuts(int index) {
+        return Catalogue.NUTS[check(index)];
+    }
+
+    private static int check(int index) {
+        if (index < 0 || index >= COUNT) {
+            throw new IllegalArgumentException("Invalid flop index: " + index);
+        }
+        return index;
+    }
+
+    /**
+     * The canonical flops in increasing order of their card masks and their features, built on first use.
+     */
+    private static final class Catalogue {
+        static final long[] MASKS = new long[COUNT];
+        static final byte[] WEIGHTS = new byte[COUNT];
+        static final byte[] RANK_COUNTS = new byte[COUNT];
+        static final byte[] SUIT_COUNTS = new byte[COUNT];
+        static final byte[] STRAIGHT_COUNTS = new byte[COUNT];
+        static final short[] NUTS = new short[COUNT];
+
+        static {
+            // Canonicalize every flop, then count the equal canonical flops next to each other once sorted
+            final var canonical = new long[Combinations.count(Card.DECK_SIZE, SIZE)];
+            final var cards = Combinations.first(SIZE);
+            var index = 0;
+            do {
+                final var flop = new CardSet(1L << cards[0] | 1L << cards[1] | 1L << cards[2]);
+                canonical[index++] = CanonicalHand.of(CardSet.EMPTY, flop).board().mask();
+            } while (Combinations.next(cards));
+            Arrays.sort(canonical);
+
+            var count = 0;
+            for (var i = 0; i < canonical.length; i++) {
+                if (i > 0 && canonical[i] == canonical[i - 1]) {
+                    WEIGHTS[count - 1]++;
+                } else {
+                    MASKS[count] = canonical[i];
+                    WEIGHTS[count++] = 1;
+                }
+            }
+
+            for (var i = 0; i < COUNT; i++) {
+                final var mask = MASKS[i];
+                final var ranks = (int) (mask | mask >>> RANKS | mask >>> 2 * RANKS | mask >>> 3 * RANKS) & 0x1FFF;
+                var suits = 0;
+                for (var suit = 0; suit < 4; suit++) {
+                    suits += (mask >>> (suit * RANKS) & 0x1FFF) != 0 ? 1 : 0;
+                }
+                RANK_COUNTS[i] = (byte) Integer.bitCount(ranks);
+                SUIT_COUNTS[i] = (byte) suits;
+                STRAIGHT_COUNTS[i] = (byte) straights(ranks);
+                NUTS[i] = (short) nuts(mask);
+            }
+        }
+
+        /**
+         * Returns the number of pairs of distinct ranks that complete a straight with the flop ranks.
+         */
+        private static int straights(int ranks) {
+            var count = 0;
+            for (var high = 1; high < RANKS; high++) {
+                for (var low = 0; low < high; low++) {
+                    final var hand = ranks | 1 << high | 1 << low;
+                    for (var straight : STRAIGHTS) {
+                        if ((hand & straight) == straight) {
+                            count++;
+                            break;
+                        }
+                    }
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Returns the best value of the flop with any two live cards.
+         */
+        private static int nuts(long flop) {
+            var best = Integer.MAX_VALUE;
+            for (var combo = 0; combo < Range.COMBOS; combo++) {
+                if ((Range.MASKS[combo] & flop) == 0) {
+                    best = Math.min(best, Evaluator.evaluate(Range.MASKS[combo] | flop));
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.github.jmp.poker;
 
-import java.util.Arrays;
-
 /**
  * Represents an immutable 5-card poker hand with evaluation capabilities.
  *
@@ -40,7 +38,7 @@ public record Hand(Card... cards) {
         final int c3 = cards[2].getValue();
         final int c4 = cards[3].getValue();
         final int c5 = cards[4].getValue();
-        if (hasDuplicates(new int[]{c1, c2, c3, c4, c5})) {
+        if (Evaluator.hasDuplicates(c1, c2, c3, c4, c5)) {
             throw new IllegalArgumentException("Illegal hand.");
         }
     }
@@ -65,6 +63,7 @@ public record Hand(Card... cards) {
      *         where 1 represents the best possible hand (royal flush) and 7462
      *         represents the worst possible hand (7-5-4-3-2 offsuit)
      * @throws IllegalArgumentException if the hand contains duplicate cards
+     * @see Evaluator#evaluate(int, int, int, int, int)
      */
     public int evaluate() {
         // Binary representations of each card
@@ -75,27 +74,11 @@ public record Hand(Card... cards) {
         final int c5 = cards[4].getValue();
 
         // No duplicate cards allowed
-        if (hasDuplicates(new int[]{c1, c2, c3, c4, c5})) {
+        if (Evaluator.hasDuplicates(c1, c2, c3, c4, c5)) {
             throw new IllegalArgumentException("Illegal hand.");
         }
 
-        // Calculate index in the flushes/unique table
-        final int index = (c1 | c2 | c3 | c4 | c5) >> 16;
-
-        // Flushes, including straight flushes
-        if ((c1 & c2 & c3 & c4 & c5 & 0xF000) != 0) {
-            return Tables.Flushes.TABLE[index];
-        }
-
-        // Straight and high card hands
-        final int value = Tables.Unique.TABLE[index];
-        if (value != 0) {
-            return value;
-        }
-
-        // Remaining cards
-        final int product = (c1 & 0xFF) * (c2 & 0xFF) * (c3 & 0xFF) * (c4 & 0xFF) * (c5 & 0xFF);
-        return Tables.Hash.Values.TABLE[hash(product)];
+        return Evaluator.evaluate(c1, c2, c3, c4, c5);
     }
 
     /**
@@ -149,44 +132,4 @@ public record Hand(Card... cards) {
 
         return builder.toString();
     }
-
-    /**
-     * Checks if the given array of card values contains any duplicates.
-     *
-     * <p>Sorts the array and performs a linear scan to detect consecutive
-     * identical values, indicating duplicate cards in the hand.
-     *
-     * @param values the card values to check for duplicates
-     * @return {@code true} if duplicates are found, {@code false} otherwise
-     */
-    private static boolean hasDuplicates(int[] values) {
-        Arrays.sort(values);
-        for (int i = 1; i < values.length; i++) {
-            if (values[i] == values[i - 1])
-                return true;
-        }
-        return false;
-    }
-
-    /**
-     * Computes a hash value for the given key using the Suffecool algorithm.
-     *
-     * <p>This hash function is specifically designed for poker hand evaluation,
-     * mapping prime number products of card ranks to unique hash values that
-     * can be used to look up hand rankings in pre-computed tables.
-     *
-     * <p>The algorithm applies a series of bit manipulations and uses an
-     * adjustment table to ensure proper distribution and collision avoidance
-     * for all possible poker hand combinations.
-     *
-     * @param key the prime number product of the card ranks
-     * @return the computed hash value for table lookup
-     */
-    private static int hash(int key) {
-        key += 0xE91AAA35;
-        key ^= key >>> 16;
-        key += key << 8;
-        key ^= key >>> 4;
-        return ((key + (key << 2)) >>> 19) ^ Tables.Hash.Adjust.TABLE[(key >>> 8) & 0x1FF];
-    }
 }
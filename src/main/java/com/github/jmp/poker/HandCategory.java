@@ -0,0 +1,64 @@
+package com.github.jmp.poker;
+
+/**
+ * Represents the category of a poker hand, from the best to the worst.
+ *
+ * <p>Each category covers a contiguous interval of the hand values returned
+ * by {@link Hand#evaluate()} and {@link Evaluator}, so the category of a value
+ * is found with a few comparisons.
+ */
+public enum HandCategory {
+    /** Straight flush, including royal flush - values 1 to 10 */
+    STRAIGHT_FLUSH(10),
+    /** Four of a kind - values 11 to 166 */
+    FOUR_OF_A_KIND(166),
+    /** Full house - values 167 to 322 */
+    FULL_HOUSE(322),
+    /** Flush - values 323 to 1599 */
+    FLUSH(1599),
+    /** Straight - values 1600 to 1609 */
+    STRAIGHT(1609),
+    /** Three of a kind - values 1610 to 2467 */
+    THREE_OF_A_KIND(2467),
+    /** Two pair - values 2468 to 3325 */
+    TWO_PAIR(3325),
+    /** One pair - values 3326 to 6185 */
+    ONE_PAIR(6185),
+    /** High card - values 6186 to 7462 */
+    HIGH_CARD(7462);
+
+    private static final HandCategory[] VALUES = values();
+
+    private final int worst;
+
+    HandCategory(int worst) {
+        this.worst = worst;
+    }
+
+    /**
+     * Returns the worst hand value in this category.
+     *
+     * @return the largest value of the category
+     */
+    public int getWorst() {
+        return worst;
+    }
+
+    /**
+     * Returns the category of a hand value.
+     *
+     * @param value the hand value, between 1 and 7462
+     * @return the category of the value
+     * @throws IllegalArgumentException if the value is not between 1 and 7462
+     */
+    public static HandCategory of(int value) {
+        if (value < 1 || value > HIGH_CARD.worst) {
+            throw new IllegalArgumentException("Invalid hand value: " + value);
+        }
+        var category = 0;
+        while (value > VALUES[category].worst) {
+            category++;
+        }
+        return VALUES[category];
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.jmp.poker;
+
+import java.util.stream.IntStream;
+
+/**
+ * Represents the hand strength and hand potential of hole cards against a random hand.
+ *
+ * <p>Follows Billings et al.: the hand strength (HS) is the share of the
+ * opponent's possible hands that the player is ahead of now, counting ties
+ * as half. The positive potential (PPot) is the probability that a player who
+ * is behind now is ahead at the river, and the negative potential (NPot) the
+ * probability that a player who is ahead now is behind at the river, both
+ * over every opponent hand and every completion of the board. The effective
+ * hand strength combines them as {@code HS * (1 - NPot) + (1 - HS) * PPot}.
+ *
+ * <p>On the flop this compares about a million pairs of opponent hands and
+ * runouts. The board is completed one runout at a time, keeping the running
+ * suit counts, rank primes and card mask of the 5 board cards, so that each
+ * opponent hand only adds its two cards before the final lookup. Runouts are
+ * split across the common fork/join pool.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var potential = HandPotential.calculate(CardSet.fromString("Ah Kh"), CardSet.fromString("Qh 7h 2c"));
+ * double ehs = potential.effectiveHandStrength();
+ * }</pre>
+ *
+ * @param handStrength the current hand strength, between 0 and 1
+ * @param positivePotential the probability of getting ahead when behind or tied, between 0 and 1
+ * @param negativePotential the probability of falling behind when ahead or tied, between 0 and 1
+ * @see HandStrength
+ */
+public record HandPotential(double handStrength, double positivePotential, double negativePotential) {
+    private static final int BOARD_SIZE = 5;
+
+    /** Number of runouts evaluated by each task. */
+    private static final int CHUNK_SIZE = 32;
+
+    private static final int AHEAD = 0;
+    private static final int TIED = 1;
+    private static final int BEHIND = 2;
+
+    /**
+     * Returns the effective hand strength against one opponent.
+     *
+     * @return {@code HS * (1 - NPot) + (1 - HS) * PPot}, between 0 and 1
+     */
+    public double effectiveHandStrength() {
+        return handStrength * (1 - negativePotential) + (1 - handStrength) * positivePotential;
+    }
+
+    /**
+     * Calculates the hand strength and potential of the given hole cards.
+     *
+     * <p>On the river nothing can change, so both potentials are 0.
+     *
+     * @param hole the two hole cards of the player
+     * @param board the board, between 3 and 5 cards
+     * @return the hand strength and potentials
+     * @throws IllegalArgumentException if there are not exactly 2 hole cards, the board
+     *         does not have 3 to 5 cards, or the hole cards and the board overlap
+     */
+    public static HandPotential calculate(CardSet hole, CardSet board) {
+        if (hole.size() != 2) {
+            throw new IllegalArgumentException("Exactly 2 hole cards are required.");
+        }
+        if (board.size() < 3 || board.size() > BOARD_SIZE) {
+            throw new IllegalArgumentException("The board must have between 3 and 5 cards.");
+        }
+        if (hole.intersects(board)) {
+            throw new IllegalArgumentException("Illegal cards.");
+        }
+
+        final var live = hole.union(board).complement().toArray();
+        final var liveIndexes = new int[live.length];
+        for (var i = 0; i < live.length; i++) {
+            liveIndexes[i] = live[i].getIndex();
+        }
+
+        // The opponent hands and whether the player is ahead of each of them now
+        final var opponents = new int[Combinations.count(live.length, 2)];
+        final var now = new int[opponents.length];
+        final var player = Evaluator.evaluate(hole.mask() | board.mask());
+        final var counts = new long[3];
+        var size = 0;
+        for (var i = 1; i < live.length; i++) {
+            for (var j = 0; j < i; j++) {
+                final var combo = Range.index(liveIndexes[i], liveIndexes[j]);
+                final var opponent = Evaluator.evaluate(Range.MASKS[combo] | board.mask());
+                opponents[size] = combo;
+                now[size] = compare(player, opponent);
+                counts[now[size]]++;
+                size++;
+            }
+        }
+
+        // Counts of each current state (row) and state at the river (column)
+        final var missing = BOARD_SIZE - board.size();
+        final var runouts = Combinations.count(live.length, missing);
+        final var chunks = (runouts + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var transitions = new long[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final var result = new long[9];
+            final var indexes = new int[missing];
+            final var end = Math.min(runouts, (chunk + 1) * CHUNK_SIZE);
+            for (var i = chunk * CHUNK_SIZE; i < end; i++) {
+                Combinations.unindex(i, indexes);
+                var runout = board.mask();
+                for (var index : indexes) {
+                    runout |= 1L << liveIndexes[index];
+                }
+                count(hole.mask(), runout, opponents, now, result);
+            }
+            transitions[chunk] = result;
+        });
+
+        final var total = new long[9];
+        for (var result : transitions) {
+            for (var i = 0; i < total.length; i++) {
+                total[i] += result[i];
+            }
+        }
+
+        final var handStrength = (counts[AHEAD] + counts[TIED] / 2.0) / opponents.length;
+        return new HandPotential(
+            handStrength,
+            potential(total, BEHIND, AHEAD),
+            potential(total, AHEAD, BEHIND)
+        );
+    }
+
+    /**
+     * Adds the transitions of every opponent hand on one complete board to {@code result}.
+     */
+    private static void count(long hole, long board, int[] opponents, int[] now, long[] result) {
+        // Running totals of the 5 board cards, shared by both players
+        var suits = 0;
+        var product = 1;
+        for (var mask = board; mask != 0; mask &= mask - 1) {
+            final var value = Tables.DECK[Long.numberOfTrailingZeros(mask)];
+            suits += Evaluator.suit(value);
+            product *= value & 0xFF;
+        }
+
+        final var player = evaluate(board, suits, product, hole);
+        for (var i = 0; i < opponents.length; i++) {
+            final var mask = Range.MASKS[opponents[i]];
+            if ((mask & board) == 0) {
+                final var opponent = evaluate(board, suits, product, mask);
+                result[now[i] * 3 + compare(player, opponent)]++;
+            }
+        }
+    }
+
+    /**
+     * Evaluates the board totals with two more cards.
+     */
+    private static int evaluate(long board, int suits, int product, long hole) {
+        final var value1 = Tables.DECK[Long.numberOfTrailingZeros(hole)];
+        final var value2 = Tables.DECK[63 - Long.numberOfLeadingZeros(hole)];
+        return Evaluator.evaluate(
+            board | hole,
+            suits + Evaluator.suit(value1) + Evaluator.suit(value2),
+            product * (value1 & 0xFF) * (value2 & 0xFF)
+        );
+    }
+
+    private static int compare(int player, int opponent) {
+        // Lower values are better hands
+        return player < opponent ? AHEAD : player == opponent ? TIED : BEHIND;
+    }
+
+    /**
+     * Returns the probability of going from {@code from} to {@code to}, with ties counting half.
+     */
+    private static double potential(long[] transitions, int from, int to) {
+        final var numerator = transitions[from * 3 + to]
+            + transitions[from * 3 + TIED] / 2.0
+            + transitions[TIED * 3 + to] / 2.0;
+        final var denominator = transitions[from * 3] + transitions[from * 3 + 1] + transitions[from * 3 + 2]
+            + (transitions[TIED * 3] + transitions[TIED * 3 + 1] + transitions[TIED * 3 + 2]) / 2.0;
+        return denominator == 0 ? 0 : numerator / denominator;
+    }
+}
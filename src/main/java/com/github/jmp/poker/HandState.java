@@ -0,0 +1,195 @@
+package com.github.jmp.poker;
+
+/**
+ * Mutable evaluation state of a hand that gains and loses cards one at a time.
+ *
+ * <p>The state keeps the running totals that {@link Evaluator} otherwise
+ * derives from every card value on each call: the card mask (from which the
+ * rank bits of the whole hand and of each suit are read), the per-suit card
+ * counts and the product of the rank primes. Adding or removing a card and
+ * ranking the hand are all O(1), so a loop walking turn and river cards only
+ * pays for the cards that change:
+ *
+ * <pre>{@code
+ * var state = new HandState(CardSet.fromString("Ah Kh Qh 7h 2c"));
+ * for (var turn : state.cards().complement()) {
+ *     state.add(turn);
+ *     int value = state.rank();
+ *     state.remove(turn);
+ * }
+ * }</pre>
+ *
+ * <p>The product wraps on overflow like the one used by the 7-card tables.
+ * Removing a card multiplies by the inverse of its prime modulo 2<sup>32</sup>,
+ * which only exists for odd primes, so the factors of 2 of the deuces are
+ * counted separately and shifted in when ranking.
+ *
+ * <p>Instances are not thread-safe; use {@link #copy()} to hand a state to another thread.
+ *
+ * @see Evaluator
+ */
+public final class HandState {
+    private static final int MAX_SIZE = 7;
+
+    /** Inverse of the rank prime of each card modulo 2^32, by deck index, or 1 for deuces. */
+    private static final int[] INVERSES = new int[Card.DECK_SIZE];
+
+    static {
+        for (var card = 0; card < Card.DECK_SIZE; card++) {
+            final var prime = Tables.DECK[card] & 0xFF;
+            if (prime == 2) {
+                INVERSES[card] = 1;
+                continue;
+            }
+            // Newton's iteration doubles the number of correct low bits each time
+            var inverse = prime;
+            for (var i = 0; i < 5; i++) {
+                inverse *= 2 - prime * inverse;
+            }
+            INVERSES[card] = inverse;
+        }
+    }
+
+    private long mask;
+    private int suits;
+    private int product = 1;
+    private int twos;
+
+    /**
+     * Creates an empty state.
+     */
+    public HandState() {
+    }
+
+    /**
+     * Creates a state holding the given cards.
+     *
+     * @param cards at most 7 cards
+     * @throws IllegalArgumentException if there are more than 7 cards
+     */
+    public HandState(CardSet cards) {
+        for (var card : cards) {
+            add(card.getIndex());
+        }
+    }
+
+    /**
+     * Adds a card.
+     *
+     * @param card the card to add
+     * @throws IllegalArgumentException if the card is already in the hand, or the hand has 7 cards
+     */
+    public void add(Card card) {
+        add(card.getIndex());
+    }
+
+    /**
+     * Adds a card given by its deck index.
+     *
+     * @param index the deck index of the card to add (see {@link Card#getIndex()})
+     * @throws IllegalArgumentException if the card is already in the hand, the hand has 7 cards,
+     *         or the index is invalid
+     */
+    public void add(int index) {
+        final var bit = bit(index);
+        if ((mask & bit) != 0 || Long.bitCount(mask) == MAX_SIZE) {
+            throw new IllegalArgumentException("Cannot add card " + index + ".");
+        }
+        final var value = Tables.DECK[index];
+        mask |= bit;
+        suits += Evaluator.suit(value);
+        if ((value & 0xFF) == 2) {
+            twos++;
+        } else {
+            product *= value & 0xFF;
+        }
+    }
+
+    /**
+     * Removes a card.
+     *
+     * @param card the card to remove
+     * @throws IllegalArgumentException if the card is not in the hand
+     */
+    public void remove(Card card) {
+        remove(card.getIndex());
+    }
+
+    /**
+     * Removes a card given by its deck index.
+     *
+     * @param index the deck index of the card to remove (see {@link Card#getIndex()})
+     * @throws IllegalArgumentException if the card is not in the hand, or the index is invalid
+     */
+    public void remove(int index) {
+        final var bit = bit(index);
+        if ((mask & bit) == 0) {
+            throw new IllegalArgumentException("Cannot remove card " + index + ".");
+        }
+        final var value = Tables.DECK[index];
+        mask &= ~bit;
+        suits -= Evaluator.suit(value);
+        if ((value & 0xFF) == 2) {
+            twos--;
+        } else {
+            product *= INVERSES[index];
+        }
+    }
+
+    /**
+     * Returns the value of the best 5-card hand of the cards.
+     *
+     * @return the value between 1 (best) and 7462 (worst)
+     * @throws IllegalStateException if the hand does not have 5 to 7 cards
+     */
+    public int rank() {
+        if (Long.bitCount(mask) < 5) {
+            throw new IllegalStateException("Between 5 and 7 cards are required.");
+        }
+        return Evaluator.evaluate(mask, suits, product << twos);
+    }
+
+    /**
+     * Returns the number of cards.
+     *
+     * @return the number of cards, between 0 and 7
+     */
+    public int size() {
+        return Long.bitCount(mask);
+    }
+
+    /**
+     * Returns the cards.
+     *
+     * @return the cards of the hand
+     */
+    public CardSet cards() {
+        return new CardSet(mask);
+    }
+
+    /**
+     * Returns a copy of this state that can be changed independently.
+     *
+     * @return a new state with the same cards
+     */
+    public HandState copy() {
+        final var copy = new HandState();
+        copy.mask = mask;
+        copy.suits = suits;
+        copy.product = product;
+        copy.twos = twos;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return cards().toString();
+    }
+
+    private static long bit(int index) {
+        if (index < 0 || index >= Card.DECK_SIZE) {
+            throw new IllegalArgumentException("Invalid index: " + index);
+        }
+        return 1L << index;
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.jmp.poker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Calculates the hand strength of every hole card combo against a random hand.
+ *
+ * <p>The hand strength of a combo is its exact equity against a uniformly
+ * random opponent hand over every completion of the board, counting ties as
+ * half a win. On the river, every live combo is evaluated once and the combos
+ * are sorted by value; a single sweep from the worst value to the best then
+ * counts the hands each combo beats and ties, with per-card counts removing the
+ * hands that share a card with it. On the turn and the flop the river results
+ * of every runout are averaged.
+ *
+ * <p>Results are cached per {@link CanonicalHand canonical} board, so that e.g.
+ * {@code Ah 7c 2d} and {@code As 7h 2c} share one computation. Instances are thread-safe.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var strength = new HandStrength();
+ * float[] equities = strength.equities(CardSet.fromString("Ah 7c 2d"));
+ * float equity = equities[Range.index(Card.fromString("As"), Card.fromString("Kd"))];
+ * }</pre>
+ *
+ * @see Range#index(Card, Card)
+ */
+public final class HandStrength {
+    /** Number of boards cached by the default constructor. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final int BOARD_SIZE = 5;
+
+    /** Number of runouts evaluated by each task. */
+    private static final int CHUNK_SIZE = 16;
+
+    /** Every combo, each against a uniformly random opponent hand. */
+    private static final int[] ALL_COMBOS = IntStream.range(0, Range.COMBOS).toArray();
+
+    private final Map<Long, float[]> cache;
+
+    /**
+     * Creates a calculator caching up to {@link #DEFAULT_CAPACITY} boards.
+     */
+    public HandStrength() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a calculator caching up to the given number of boards,
+     * evicting the least recently used ones.
+     *
+     * @param capacity the maximum number of cached boards, 0 to disable caching
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public HandStrength(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity must not be negative.");
+        }
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, float[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the hand strength of every combo on the given board.
+     *
+     * @param board the board, between 3 and 5 cards
+     * @return a new array of 1,326 equities indexed by combo, with {@code NaN}
+     *         for the combos that share a card with the board
+     * @throws IllegalArgumentException if the board does not have 3 to 5 cards
+     */
+    public float[] equities(CardSet board) {
+        if (board.size() < 3 || board.size() > BOARD_SIZE) {
+            throw new IllegalArgumentException("The board must have between 3 and 5 cards.");
+        }
+
+        final var canonical = CanonicalHand.of(CardSet.EMPTY, board);
+        final var equities = lookup(canonical.board().mask());
+        final var result = new float[Range.COMBOS];
+        for (var combo = 0; combo < Range.COMBOS; combo++) {
+            result[combo] = equities[SuitPermutations.combo(combo, canonical.permutation())];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the hand strength of the given hole cards on the given board.
+     *
+     * @param hole the two hole cards
+     * @param board the board, between 3 and 5 cards
+     * @return the equity against a random hand, between 0 and 1
+     * @throws IllegalArgumentException if there are not exactly 2 hole cards, the board
+     *         does not have 3 to 5 cards, or the hole cards and the board overlap
+     */
+    public float equity(CardSet hole, CardSet board) {
+        if (hole.size() != 2) {
+            throw new IllegalArgumentException("Exactly 2 hole cards are required.");
+        }
+        if (hole.intersects(board)) {
+            throw new IllegalArgumentException("Illegal cards.");
+        }
+        final var cards = hole.toArray();
+        return equities(board)[Range.index(cards[0], cards[1])];
+    }
+
+    private float[] lookup(long board) {
+        synchronized (cache) {
+            final var cached = cache.get(board);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Computed outside the lock, so another thread may compute the same board
+        final var equities = compute(board);
+        synchronized (cache) {
+            cache.put(board, equities);
+        }
+        return equities;
+    }
+
+    /**
+     * Computes the hand strength of every combo by averaging the river results of every runout.
+     */
+    static float[] compute(long board) {
+        final var live = new int[Card.DECK_SIZE - Long.bitCount(board)];
+        var size = 0;
+        for (var card = 0; card < Card.DECK_SIZE; card++) {
+            if ((board & (1L << card)) == 0) {
+                live[size++] = card;
+            }
+        }
+
+        final var missing = BOARD_SIZE - Long.bitCount(board);
+        final var runouts = Combinations.count(live.length, missing);
+        final var chunks = (runouts + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var sums = new double[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            final var sweep = new RiverSweep();
+            final var indexes = new int[missing];
+            sums[chunk] = new double[Range.COMBOS];
+            final var end = Math.min(runouts, (chunk + 1) * CHUNK_SIZE);
+            for (var i = chunk * CHUNK_SIZE; i < end; i++) {
+                Combinations.unindex(i, indexes);
+                var mask = board;
+                for (var index : indexes) {
+                    mask |= 1L << live[index];
+                }
+                sweep.run(mask, ALL_COMBOS, null, null);
+                for (var combo = 0; combo < Range.COMBOS; combo++) {
+                    if ((Range.MASKS[combo] & mask) == 0) {
+                        sums[chunk][combo] += (sweep.wins[combo] + sweep.ties[combo] / 2) / sweep.totals[combo];
+                    }
+                }
+            }
+        });
+
+        // Every combo that misses the board misses the same number of runouts
+        final var count = Combinations.count(live.length - 2, missing);
+        final var equities = new float[Range.COMBOS];
+        for (var combo = 0; combo < Range.COMBOS; combo++) {
+            if ((Range.MASKS[combo] & board) != 0) {
+                equities[combo] = Float.NaN;
+                continue;
+            }
+            var sum = 0.0;
+            for (var chunk : sums) {
+                sum += chunk[combo];
+            }
+            equities[combo] = (float) (sum / count);
+        }
+        return equities;
+    }
+}
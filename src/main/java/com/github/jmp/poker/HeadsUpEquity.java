@@ -0,0 +1,214 @@
+package com.github.jmp.poker;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Represents the exact Texas Hold'em equity of one player against another.
+ *
+ * <p>The counts are taken over every possible completion of the board: with an
+ * empty board, all C(48, 5) = 1,712,304 boards are evaluated. Use
+ * {@link #enumerate(CardSet, CardSet, CardSet, CardSet)} to compute them.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var result = HeadsUpEquity.enumerate(
+ *     CardSet.fromString("Ah Kh"), CardSet.fromString("Qs Qd"), CardSet.EMPTY, CardSet.EMPTY
+ * );
+ * double equity = result.equity();
+ * }</pre>
+ *
+ * @param wins the number of boards on which the player wins
+ * @param ties the number of boards on which the pot is split
+ * @param losses the number of boards on which the opponent wins
+ */
+public record HeadsUpEquity(long wins, long ties, long losses) {
+    private static final int BOARD_SIZE = 5;
+
+    /**
+     * Returns the number of boards that were evaluated.
+     *
+     * @return the sum of wins, ties and losses
+     */
+    public long total() {
+        return wins + ties + losses;
+    }
+
+    /**
+     * Returns the equity of the player, counting ties as half a win.
+     *
+     * @return the share of the pot the player wins on average, between 0 and 1
+     */
+    public double equity() {
+        return (wins + ties / 2.0) / total();
+    }
+
+    /**
+     * Calculates the exact equity of the player on the common fork/join pool.
+     *
+     * @param player the two hole cards of the player
+     * @param opponent the two hole cards of the opponent
+     * @param board the known board cards, between 0 and 5
+     * @param dead the cards that cannot appear on the board, e.g. folded cards
+     * @return the win, tie and loss counts of the player over all boards
+     * @throws IllegalArgumentException if a player does not have exactly 2 cards, the
+     *         board has more than 5 cards, any of the card sets overlap, or there are
+     *         not enough live cards left to complete the board
+     */
+    public static HeadsUpEquity enumerate(CardSet player, CardSet opponent, CardSet board, CardSet dead) {
+        return enumerate(player, opponent, board, dead, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calculates the exact equity of the player on the given fork/join pool.
+     *
+     * <p>The boards are split into one task for each possible first missing
+     * board card. Neither hands nor card objects are created per board.
+     *
+     * @param player the two hole cards of the player
+     * @param opponent the two hole cards of the opponent
+     * @param board the known board cards, between 0 and 5
+     * @param dead the cards that cannot appear on the board, e.g. folded cards
+     * @param pool the pool running the enumeration
+     * @return the win, tie and loss counts of the player over all boards
+     * @throws IllegalArgumentException if a player does not have exactly 2 cards, the
+     *         board has more than 5 cards, any of the card sets overlap, or there are
+     *         not enough live cards left to complete the board
+     */
+    public static HeadsUpEquity enumerate(
+        CardSet player, CardSet opponent, CardSet board, CardSet dead, ForkJoinPool pool
+    ) {
+        if (player.size() != 2 || opponent.size() != 2) {
+            throw new IllegalArgumentException("Exactly 2 hole cards are required.");
+        }
+        if (board.size() > BOARD_SIZE) {
+            throw new IllegalArgumentException("At most 5 board cards are allowed.");
+        }
+        final long used = player.mask() | opponent.mask() | board.mask() | dead.mask();
+        if (Long.bitCount(used) != 4 + board.size() + dead.size()) {
+            throw new IllegalArgumentException("Illegal cards.");
+        }
+
+        final var live = CardSet.FULL_DECK.mask() & ~used;
+        if (Long.bitCount(live) < BOARD_SIZE - board.size()) {
+            throw new IllegalArgumentException("Not enough cards left to deal.");
+        }
+        final var enumeration = new Enumeration(player.mask(), opponent.mask(), board.mask(), live);
+        return pool.invoke(new Task(enumeration, -1));
+    }
+
+    private HeadsUpEquity plus(HeadsUpEquity other) {
+        return new HeadsUpEquity(wins + other.wins, ties + other.ties, losses + other.losses);
+    }
+
+    /**
+     * The fixed inputs of an enumeration, as bit-packed card values.
+     */
+    private static final class Enumeration {
+        final int p1;
+        final int p2;
+        final int o1;
+        final int o2;
+        final int[] known;
+        final int[] live;
+
+        Enumeration(long player, long opponent, long board, long live) {
+            this.p1 = Tables.DECK[Long.numberOfTrailingZeros(player)];
+            this.p2 = Tables.DECK[63 - Long.numberOfLeadingZeros(player)];
+            this.o1 = Tables.DECK[Long.numberOfTrailingZeros(opponent)];
+            this.o2 = Tables.DECK[63 - Long.numberOfLeadingZeros(opponent)];
+            this.known = values(board);
+            this.live = values(live);
+        }
+
+        int missing() {
+            return BOARD_SIZE - known.length;
+        }
+
+        private static int[] values(long mask) {
+            final var values = new int[Long.bitCount(mask)];
+            for (var i = 0; i < values.length; i++) {
+                values[i] = Tables.DECK[Long.numberOfTrailingZeros(mask)];
+                mask &= mask - 1;
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Counts the boards that start with the given live card, or forks one
+     * subtask per first live card if {@code first} is negative.
+     */
+    private static final class Task extends RecursiveTask<HeadsUpEquity> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Enumeration enumeration;
+        private final int first;
+
+        Task(Enumeration enumeration, int first) {
+            this.enumeration = enumeration;
+            this.first = first;
+        }
+
+        @Override
+        protected HeadsUpEquity compute() {
+            final var missing = enumeration.missing();
+            final var board = new int[BOARD_SIZE];
+            System.arraycopy(enumeration.known, 0, board, 0, enumeration.known.length);
+            final var counts = new long[3];
+
+            if (missing == 0) {
+                count(board, counts);
+            } else if (first >= 0) {
+                board[enumeration.known.length] = enumeration.live[first];
+                deal(board, enumeration.known.length + 1, first + 1, counts);
+            } else {
+                final var tasks = new ArrayList<Task>();
+                for (var i = 0; i <= enumeration.live.length - missing; i++) {
+                    tasks.add(new Task(enumeration, i));
+                }
+
+                var result = new HeadsUpEquity(0, 0, 0);
+                for (var task : invokeAll(tasks)) {
+                    result = result.plus(task.join());
+                }
+                return result;
+            }
+
+            return new HeadsUpEquity(counts[0], counts[1], counts[2]);
+        }
+
+        /**
+         * Fills the board from position {@code size} with live cards from {@code start} on.
+         */
+        private void deal(int[] board, int size, int start, long[] counts) {
+            if (size == BOARD_SIZE) {
+                count(board, counts);
+                return;
+            }
+
+            final var live = enumeration.live;
+            final var last = live.length - (BOARD_SIZE - size);
+            for (var i = start; i <= last; i++) {
+                board[size] = live[i];
+                deal(board, size + 1, i + 1, counts);
+            }
+        }
+
+        private void count(int[] board, long[] counts) {
+            final var e = enumeration;
+            final var player = Evaluator.evaluate(e.p1, e.p2, board[0], board[1], board[2], board[3], board[4]);
+            final var opponent = Evaluator.evaluate(e.o1, e.o2, board[0], board[1], board[2], board[3], board[4]);
+
+            // Lower values are better hands
+            if (player < opponent) {
+                counts[0]++;
+            } else if (player == opponent) {
+                counts[1]++;
+            } else {
+                counts[2]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,466 @@
+package com.github.jmp.poker;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estimates Texas Hold'em equities of 2 to 10 players by dealing random boards.
+ *
+ * <p>Each player has 0 to 2 known hole cards; the unknown ones are dealt at
+ * random for every sample, along with the missing board cards. A pot split
+ * between several players counts as an equal share of a win for each of them.
+ *
+ * <p>The samples are dealt in fixed-size chunks by worker threads. Each chunk
+ * has its own {@link SplittableRandom}, and each worker has its own array of
+ * live cards, which is shuffled in place, so dealing a sample does not
+ * allocate. The shares of the workers are merged through {@link LongAdder}s.
+ * With a given seed, the results are identical for any number of threads.
+ *
+ * <p>Instead of a number of samples, {@link #simulateUntil(double, Duration)}
+ * takes a target standard error and a time limit, and stops at whichever is
+ * reached first.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var simulation = new MonteCarloEquity(
+ *     List.of(CardSet.fromString("Ah Kh"), CardSet.fromString("Qs Qd"), CardSet.EMPTY),
+ *     CardSet.EMPTY, CardSet.EMPTY
+ * );
+ * var result = simulation.simulate(1_000_000);
+ * double equity = result.equity(0);
+ * }</pre>
+ *
+ * @see HeadsUpEquity
+ */
+public final class MonteCarloEquity {
+    private static final int MIN_PLAYERS = 2;
+    private static final int MAX_PLAYERS = 10;
+    private static final int BOARD_SIZE = 5;
+
+    /** A win is worth this many shares, which splits evenly between up to 10 players. */
+    static final long WIN = 2520;
+
+    /** Longest time limit of a simulation, far longer than anyone will wait. */
+    private static final Duration MAX_TIME_LIMIT = Duration.ofNanos(Long.MAX_VALUE / 4);
+
+    /** Number of samples dealt with each generator. */
+    private static final long CHUNK_SIZE = 1 << 14;
+
+    private final int players;
+    private final int[][] holeCards;
+    private final int[] board;
+    private final int[] live;
+
+    /**
+     * Creates a simulation of the given players and board.
+     *
+     * @param players the known hole cards of each player, between 0 and 2 cards each
+     * @param board the known board cards, between 0 and 5
+     * @param dead the cards that cannot be dealt, e.g. folded cards
+     * @throws IllegalArgumentException if there are not 2 to 10 players, a player has
+     *         more than 2 cards, the board has more than 5 cards, any of the card sets
+     *         overlap, or there are not enough cards left to deal
+     */
+    public MonteCarloEquity(List<CardSet> players, CardSet board, CardSet dead) {
+        if (players.size() < MIN_PLAYERS || players.size() > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Between 2 and 10 players are required.");
+        }
+        if (board.size() > BOARD_SIZE) {
+            throw new IllegalArgumentException("At most 5 board cards are allowed.");
+        }
+
+        var used = board.mask() | dead.mask();
+        var count = board.size() + dead.size();
+        var missing = BOARD_SIZE - board.size();
+        this.players = players.size();
+        this.holeCards = new int[players.size()][];
+        for (var i = 0; i < holeCards.length; i++) {
+            final var cards = players.get(i);
+            if (cards.size() > 2) {
+                throw new IllegalArgumentException("At most 2 hole cards are allowed.");
+            }
+            holeCards[i] = values(cards.mask());
+            used |= cards.mask();
+            count += cards.size();
+            missing += 2 - cards.size();
+        }
+        if (Long.bitCount(used) != count) {
+            throw new IllegalArgumentException("Illegal cards.");
+        }
+
+        this.board = values(board.mask());
+        this.live = values(CardSet.FULL_DECK.mask() & ~used);
+        if (live.length < missing) {
+            throw new IllegalArgumentException("Not enough cards left to deal.");
+        }
+    }
+
+    /**
+     * Runs the given number of samples on all available processors, with a random seed.
+     *
+     * @param samples the number of boards to deal
+     * @return the estimated equities
+     * @throws IllegalArgumentException if the number of samples is not positive
+     */
+    public Result simulate(long samples) {
+        return simulate(samples, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Runs the given number of samples on the given number of threads, with a random seed.
+     *
+     * @param samples the number of boards to deal
+     * @param threads the number of worker threads
+     * @return the estimated equities
+     * @throws IllegalArgumentException if the number of samples or threads is not positive
+     */
+    public Result simulate(long samples, int threads) {
+        return simulate(samples, threads, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Runs the given number of samples on the given number of threads.
+     *
+     * <p>The result only depends on the seed and the number of samples, not
+     * on the number of threads or on how they are scheduled: the samples are
+     * dealt in chunks of a fixed size, and chunk {@code i} always uses the
+     * {@code i}-th generator split from a generator seeded with {@code seed}.
+     *
+     * @param samples the number of boards to deal
+     * @param threads the number of worker threads
+     * @param seed the seed of the random number generator
+     * @return the estimated equities
+     * @throws IllegalArgumentException if the number of samples or threads is not positive
+     */
+    public Result simulate(long samples, int threads, long seed) {
+        if (samples <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("The number of samples and threads must be positive.");
+        }
+        // Standard errors are never negative, so the simulation does not stop early
+        return run(new Chunks(samples, seed, false, 0), threads, -1);
+    }
+
+    /**
+     * Runs samples on all available processors until the equities are precise
+     * enough or the time is up, with a random seed.
+     *
+     * @param targetError the standard error at which to stop
+     * @param timeLimit the time after which to stop
+     * @return the estimated equities
+     * @throws IllegalArgumentException if the target error is not positive or the time limit is negative
+     * @see #simulateUntil(double, Duration, int, long)
+     */
+    public Result simulateUntil(double targetError, Duration timeLimit) {
+        return simulateUntil(
+            targetError, timeLimit, Runtime.getRuntime().availableProcessors(), new SplittableRandom().nextLong()
+        );
+    }
+
+    /**
+     * Runs samples until the equities are precise enough or the time is up.
+     *
+     * <p>The simulation stops as soon as the standard error of every player's
+     * equity is at most {@code targetError}, or after {@code timeLimit}. For
+     * a target width {@code w} of the 95% confidence interval, use a target
+     * error of {@code w / (2 * 1.96)}. The result reports the number of samples
+     * that were dealt and the standard errors that were reached.
+     *
+     * <p>The standard errors are checked whenever a worker finishes a chunk
+     * of samples, not after every sample. The number of samples, and so the
+     * result, therefore depends on timing, even with the same seed.
+     *
+     * @param targetError the standard error at which to stop
+     * @param timeLimit the time after which to stop
+     * @param threads the number of worker threads
+     * @param seed the seed of the random number generator
+     * @return the estimated equities
+     * @throws IllegalArgumentException if the target error or the number of threads is not
+     *         positive, or the time limit is negative
+     */
+    public Result simulateUntil(double targetError, Duration timeLimit, int threads, long seed) {
+        if (!(targetError > 0) || timeLimit.isNegative() || threads <= 0) {
+            throw new IllegalArgumentException("Invalid target error, time limit or number of threads.");
+        }
+        final var limit = timeLimit.compareTo(MAX_TIME_LIMIT) < 0 ? timeLimit : MAX_TIME_LIMIT;
+        final var deadline = System.nanoTime() + limit.toNanos();
+        return run(new Chunks(Long.MAX_VALUE, seed, true, deadline), threads, targetError);
+    }
+
+    private Result run(Chunks chunks, int threads, double targetError) {
+        final var totals = new Totals(players);
+        final var start = System.nanoTime();
+        final var workers = new ArrayList<ForkJoinTask<?>>();
+        for (var i = 0; i < threads; i++) {
+            workers.add(ForkJoinTask.adapt(() -> {
+                final var worker = new Worker();
+                for (var chunk = chunks.next(); chunk != null; chunk = chunks.next()) {
+                    worker.run(chunk);
+                    worker.addTo(totals);
+                    if (totals.maxStandardError() <= targetError) {
+                        chunks.stop();
+                    }
+                }
+            }));
+        }
+
+        final var pool = new ForkJoinPool(threads);
+        try {
+            workers.forEach(pool::execute);
+            workers.forEach(ForkJoinTask::join);
+        } finally {
+            pool.shutdown();
+        }
+
+        return totals.result(System.nanoTime() - start);
+    }
+
+    private static int[] values(long mask) {
+        final var values = new int[Long.bitCount(mask)];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = Tables.DECK[Long.numberOfTrailingZeros(mask)];
+            mask &= mask - 1;
+        }
+        return values;
+    }
+
+    /**
+     * A run of samples dealt with its own random number generator.
+     *
+     * @param random the generator of the chunk
+     * @param samples the number of samples in the chunk
+     */
+    private record Chunk(SplittableRandom random, long samples) {
+    }
+
+    /**
+     * Hands out the chunks of a simulation in order.
+     */
+    private static final class Chunks {
+        private final SplittableRandom root;
+        private final boolean timed;
+        private final long deadline;
+        private long remaining;
+        private boolean stopped;
+
+        Chunks(long samples, long seed, boolean timed, long deadline) {
+            this.root = new SplittableRandom(seed);
+            this.timed = timed;
+            this.deadline = deadline;
+            this.remaining = samples;
+        }
+
+        /**
+         * Returns the next chunk, or {@code null} when all samples have been
+         * handed out, the simulation was stopped or the deadline has passed.
+         *
+         * <p>Splitting the generator and taking the samples happen together,
+         * so every chunk gets the same generator whichever thread takes it.
+         */
+        synchronized Chunk next() {
+            if (remaining == 0 || stopped || (timed && System.nanoTime() - deadline >= 0)) {
+                return null;
+            }
+            final var samples = Math.min(remaining, CHUNK_SIZE);
+            remaining -= samples;
+            return new Chunk(root.split(), samples);
+        }
+
+        synchronized void stop() {
+            stopped = true;
+        }
+    }
+
+    /**
+     * The sums of all finished chunks.
+     */
+    private static final class Totals {
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder[] shares;
+        private final LongAdder[] squares;
+
+        Totals(int players) {
+            this.shares = new LongAdder[players];
+            this.squares = new LongAdder[players];
+            for (var i = 0; i < players; i++) {
+                shares[i] = new LongAdder();
+                squares[i] = new LongAdder();
+            }
+        }
+
+        double maxStandardError() {
+            final var count = samples.sum();
+            var max = 0.0;
+            for (var i = 0; i < shares.length; i++) {
+                max = Math.max(max, standardError(shares[i].sum(), squares[i].sum(), count));
+            }
+            return max;
+        }
+
+        Result result(long nanos) {
+            // The shares are whole numbers, so the order of the sums does not matter
+            final var count = samples.sum();
+            final var equities = new double[shares.length];
+            final var errors = new double[shares.length];
+            for (var i = 0; i < shares.length; i++) {
+                equities[i] = shares[i].sum() / (double) (WIN * count);
+                errors[i] = standardError(shares[i].sum(), squares[i].sum(), count);
+            }
+            return new Result(equities, errors, count, nanos);
+        }
+
+        /**
+         * Returns the standard error of the mean share, as a fraction of a win.
+         */
+        private static double standardError(long sum, long sumOfSquares, long count) {
+            if (count == 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            final var mean = (double) sum / count;
+            final var variance = Math.max(0, (double) sumOfSquares / count - mean * mean);
+            return Math.sqrt(variance / count) / WIN;
+        }
+    }
+
+    /**
+     * Deals and evaluates samples on one thread, reusing its arrays.
+     */
+    private final class Worker {
+        private final int[] deck = new int[live.length];
+        private final int[] cards = new int[BOARD_SIZE + 2];
+        private final int[] values = new int[players];
+        private final long[] shares = new long[players];
+        private final long[] squares = new long[players];
+        private long samples;
+        private SplittableRandom random;
+
+        /**
+         * Runs the samples of the given chunk, adding the shares won by each player.
+         */
+        void run(Chunk chunk) {
+            // The deals depend on the order of the deck, so every chunk starts from the same one
+            System.arraycopy(live, 0, deck, 0, live.length);
+            random = chunk.random();
+            for (var sample = 0L; sample < chunk.samples(); sample++) {
+                sample();
+            }
+            samples += chunk.samples();
+        }
+
+        /**
+         * Moves the sums of the finished chunks to the totals.
+         */
+        void addTo(Totals totals) {
+            for (var player = 0; player < players; player++) {
+                totals.shares[player].add(shares[player]);
+                totals.squares[player].add(squares[player]);
+                shares[player] = 0;
+                squares[player] = 0;
+            }
+            totals.samples.add(samples);
+            samples = 0;
+        }
+
+        private void sample() {
+            // Partial Fisher-Yates shuffle: the next card is drawn from the rest of the deck
+            var dealt = 0;
+            System.arraycopy(board, 0, cards, 2, board.length);
+            for (var i = board.length; i < BOARD_SIZE; i++) {
+                cards[2 + i] = draw(dealt++);
+            }
+
+            var best = Integer.MAX_VALUE;
+            var winners = 0;
+            for (var player = 0; player < players; player++) {
+                final var known = holeCards[player];
+                cards[0] = known.length > 0 ? known[0] : draw(dealt++);
+                cards[1] = known.length > 1 ? known[1] : draw(dealt++);
+
+                final var value = Evaluator.evaluate(
+                    cards[0], cards[1], cards[2], cards[3], cards[4], cards[5], cards[6]
+                );
+                values[player] = value;
+                if (value < best) {
+                    best = value;
+                    winners = 1;
+                } else if (value == best) {
+                    winners++;
+                }
+            }
+
+            final var share = WIN / winners;
+            for (var player = 0; player < players; player++) {
+                if (values[player] == best) {
+                    shares[player] += share;
+                    squares[player] += share * share;
+                }
+            }
+        }
+
+        private int draw(int dealt) {
+            final var index = dealt + random.nextInt(deck.length - dealt);
+            final var card = deck[index];
+            deck[index] = deck[dealt];
+            deck[dealt] = card;
+            return card;
+        }
+    }
+
+    /**
+     * Represents the estimated equities of a simulation.
+     *
+     * @param equities the estimated equity of each player, in the order of the players
+     * @param standardErrors the standard error of each equity
+     * @param samples the number of boards that were dealt
+     * @param nanos the wall-clock duration of the simulation in nanoseconds
+     */
+    public record Result(double[] equities, double[] standardErrors, long samples, long nanos) {
+        private static final double Z_95 = 1.96;
+
+        /**
+         * Returns the estimated equity of the given player.
+         *
+         * @param player the index of the player
+         * @return the share of the pot the player wins on average, between 0 and 1
+         */
+        public double equity(int player) {
+            return equities[player];
+        }
+
+        /**
+         * Returns the standard error of the estimated equity of the given player.
+         *
+         * @param player the index of the player
+         * @return the standard error of the equity
+         */
+        public double standardError(int player) {
+            return standardErrors[player];
+        }
+
+        /**
+         * Returns the half-width of the 95% confidence interval of the equity of the given player.
+         *
+         * <p>The true equity lies between {@code equity(player) - margin(player)} and
+         * {@code equity(player) + margin(player)} with a probability of about 95%.
+         *
+         * @param player the index of the player
+         * @return the margin of error of the equity
+         */
+        public double margin(int player) {
+            return Z_95 * standardErrors[player];
+        }
+
+        /**
+         * Returns the number of samples per second of wall-clock time.
+         *
+         * @return the simulation throughput
+         */
+        public double samplesPerSecond() {
+            return samples * 1e9 / nanos;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.github.jmp.poker;
+
+import java.util.Arrays;
+
+/**
+ * Evaluates Omaha hands: four hole cards and a board of five cards.
+ *
+ * <p>In Omaha, a player's hand is made of exactly two of their four hole cards
+ * and exactly three of the five board cards, so there are 60 candidate 5-card
+ * hands per player.
+ *
+ * <p>The static {@link #evaluate(int, int, int, int, int, int, int, int, int)}
+ * method evaluates a single hand. It computes the rank bits, common suit and
+ * prime product of each board triple and each hole card pair once, so each of
+ * the 60 candidates costs a few bitwise operations and a table lookup.
+ *
+ * <p>When many hands are evaluated against the same board, create an instance
+ * for the board instead. It evaluates all 10 board triples against every pair
+ * of hole card ranks up front, which leaves at most two table lookups for each
+ * of the 6 hole card pairs of a player.
+ *
+ * <p>Cards are given as bit-packed card values, as returned by
+ * {@link Card#getValue()}. The results use the same scale as
+ * {@link Hand#evaluate()}: an integer between 1 (royal flush) and 7462
+ * (7-5-4-3-2 offsuit). Instances are immutable and can be shared by all
+ * players and threads.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var board = new Omaha(b1, b2, b3, b4, b5);
+ * int first = board.evaluate(h1, h2, h3, h4);
+ * int second = board.evaluate(h5, h6, h7, h8);
+ * }</pre>
+ *
+ * @see Evaluator
+ */
+public final class Omaha {
+    private static final int RANKS = 13;
+
+    private final short[] values = new short[RANKS * RANKS];
+    private final short[] flushes;
+    private final int flushSuit;
+
+    /**
+     * Creates a board from five bit-packed card values.
+     *
+     * <p>The cards must be distinct; duplicates are not detected.
+     *
+     * @param b1 the value of the first board card
+     * @param b2 the value of the second board card
+     * @param b3 the value of the third board card
+     * @param b4 the value of the fourth board card
+     * @param b5 the value of the fifth board card
+     */
+    public Omaha(int b1, int b2, int b3, int b4, int b5) {
+        final int[] board = {b1, b2, b3, b4, b5};
+
+        // Five cards have at most one suit with three or more cards
+        final int suits = Evaluator.suit(b1) + Evaluator.suit(b2) + Evaluator.suit(b3) + Evaluator.suit(b4)
+            + Evaluator.suit(b5);
+        final int flush = (suits + 0x5555) & 0x8888;
+        this.flushSuit = flush == 0 ? 0 : 0x1000 << (Integer.numberOfTrailingZeros(flush) >>> 2);
+        this.flushes = flushSuit == 0 ? null : new short[RANKS * RANKS];
+
+        Arrays.fill(values, Short.MAX_VALUE);
+        if (flushes != null) {
+            Arrays.fill(flushes, Short.MAX_VALUE);
+        }
+
+        for (var i = 0; i < board.length; i++) {
+            for (var j = i + 1; j < board.length; j++) {
+                for (var k = j + 1; k < board.length; k++) {
+                    final int ranks = board[i] | board[j] | board[k];
+                    final int suit = board[i] & board[j] & board[k] & 0xF000;
+                    final int product = (board[i] & 0xFF) * (board[j] & 0xFF) * (board[k] & 0xFF);
+
+                    for (var r1 = 0; r1 < RANKS; r1++) {
+                        for (var r2 = r1; r2 < RANKS; r2++) {
+                            final int pairRanks = (1 << (r1 + 16)) | (1 << (r2 + 16));
+                            final int pairProduct = Tables.PRIMES[r1] * Tables.PRIMES[r2];
+                            final var value = (short) evaluateParts(ranks, 0, product, pairRanks, 0, pairProduct);
+                            set(values, r1, r2, value);
+
+                            if (suit != 0 && r1 != r2) {
+                                set(flushes, r1, r2, Tables.Flushes.TABLE[(ranks | pairRanks) >> 16]);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates the best Omaha hand of the given hole cards on this board.
+     *
+     * <p>The cards must be distinct from each other and from the board;
+     * duplicates are not detected and produce an undefined result.
+     *
+     * @param h1 the value of the first hole card
+     * @param h2 the value of the second hole card
+     * @param h3 the value of the third hole card
+     * @param h4 the value of the fourth hole card
+     * @return the value of the best hand using two hole cards and three board cards,
+     *         between 1 (best) and 7462 (worst)
+     */
+    public int evaluate(int h1, int h2, int h3, int h4) {
+        var best = Math.min(lookup(h1, h2), lookup(h1, h3));
+        best = Math.min(best, lookup(h1, h4));
+        best = Math.min(best, lookup(h2, h3));
+        best = Math.min(best, lookup(h2, h4));
+        return Math.min(best, lookup(h3, h4));
+    }
+
+    /**
+     * Evaluates the best Omaha hand of the given hole cards and board.
+     *
+     * <p>This method does not allocate. When several hands share a board,
+     * creating the board once with {@link #Omaha(int, int, int, int, int)}
+     * is considerably faster.
+     *
+     * @param h1 the value of the first hole card
+     * @param h2 the value of the second hole card
+     * @param h3 the value of the third hole card
+     * @param h4 the value of the fourth hole card
+     * @param b1 the value of the first board card
+     * @param b2 the value of the second board card
+     * @param b3 the value of the third board card
+     * @param b4 the value of the fourth board card
+     * @param b5 the value of the fifth board card
+     * @return the value of the best hand using two hole cards and three board cards,
+     *         between 1 (best) and 7462 (worst)
+     */
+    public static int evaluate(int h1, int h2, int h3, int h4, int b1, int b2, int b3, int b4, int b5) {
+        var best = bestWithTriple(b1, b2, b3, h1, h2, h3, h4);
+        best = Math.min(best, bestWithTriple(b1, b2, b4, h1, h2, h3, h4));
+        best = Math.min(best, bestWithTriple(b1, b2, b5, h1, h2, h3, h4));
+        best = Math.min(best, bestWithTriple(b1, b3, b4, h1, h2, h3, h4));
+        best = Math.min(best, bestWithTriple(b1, b3, b5, h1, h2, h3, h4));
+        best = Math.min(best, bestWithTriple(b1, b4, b5, h1, h2, h3, h4));
+        best = Math.min(best, bestWithTriple(b2, b3, b4, h1, h2, h3, h4));
+        best = Math.min(best, bestWithTriple(b2, b3, b5, h1, h2, h3, h4));
+        best = Math.min(best, bestWithTriple(b2, b4, b5, h1, h2, h3, h4));
+        return Math.min(best, bestWithTriple(b3, b4, b5, h1, h2, h3, h4));
+    }
+
+    private int lookup(int h1, int h2) {
+        final int index = ((h1 >>> 8) & 0xF) * RANKS + ((h2 >>> 8) & 0xF);
+        final int value = values[index];
+        if ((h1 & h2 & flushSuit) != 0) {
+            return Math.min(value, flushes[index]);
+        }
+        return value;
+    }
+
+    /**
+     * Evaluates the best hand made of a board triple and two of the hole cards.
+     */
+    private static int bestWithTriple(int t1, int t2, int t3, int h1, int h2, int h3, int h4) {
+        final int ranks = t1 | t2 | t3;
+        final int suit = t1 & t2 & t3 & 0xF000;
+        final int product = (t1 & 0xFF) * (t2 & 0xFF) * (t3 & 0xFF);
+
+        var best = evaluatePair(ranks, suit, product, h1, h2);
+        best = Math.min(best, evaluatePair(ranks, suit, product, h1, h3));
+        best = Math.min(best, evaluatePair(ranks, suit, product, h1, h4));
+        best = Math.min(best, evaluatePair(ranks, suit, product, h2, h3));
+        best = Math.min(best, evaluatePair(ranks, suit, product, h2, h4));
+        return Math.min(best, evaluatePair(ranks, suit, product, h3, h4));
+    }
+
+    private static int evaluatePair(int ranks, int suit, int product, int h1, int h2) {
+        return evaluateParts(ranks, suit, product, h1 | h2, h1 & h2, (h1 & 0xFF) * (h2 & 0xFF));
+    }
+
+    /**
+     * Evaluates the 5-card hand made of a board triple and a pair of hole cards.
+     *
+     * @param ranks the rank bits of the board triple
+     * @param suit the suit bit shared by the board triple, or 0
+     * @param product the product of the rank primes of the board triple
+     * @param pairRanks the rank bits of the hole cards
+     * @param pairSuit the suit bits shared by the hole cards, or 0
+     * @param pairProduct the product of the rank primes of the hole cards
+     * @return the value of the hand
+     */
+    private static int evaluateParts(int ranks, int suit, int product, int pairRanks, int pairSuit, int pairProduct) {
+        final int index = (ranks | pairRanks) >> 16;
+
+        // Flushes, including straight flushes
+        if ((suit & pairSuit) != 0) {
+            return Tables.Flushes.TABLE[index];
+        }
+
+        // Straight and high card hands
+        final int value = Tables.Unique.TABLE[index];
+        if (value != 0) {
+            return value;
+        }
+
+        // Remaining cards
+        return Tables.Hash.Values.TABLE[Evaluator.hash(product * pairProduct)];
+    }
+
+    private static void set(short[] table, int r1, int r2, short value) {
+        if (value < table[r1 * RANKS + r2]) {
+            table[r1 * RANKS + r2] = value;
+            table[r2 * RANKS + r1] = value;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.github.jmp.poker;
+
+/**
+ * Represents the cards that can come on the next street and what they do for a hand.
+ *
+ * <p>For hole cards on a flop or turn, every live card is a candidate for the
+ * next board card. A candidate <em>improves</em> the hand if the hand ends up
+ * in a better {@link HandCategory}. Given an opponent range, a candidate
+ * <em>beats</em> the range if the hand is then ahead of more than half of the
+ * weight of the opponent combos still possible, counting ties as half.
+ *
+ * <p>The hole and board cards are kept in a {@link HandState}, so that each
+ * candidate only adds and removes its own card around the final table lookup.
+ * The candidates are walked as bits of a card mask and nothing is allocated
+ * per candidate.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var outs = Outs.calculate(CardSet.fromString("Ah Kh"), CardSet.fromString("Qh 7h 2c"), CardSet.EMPTY);
+ * int count = outs.improving().size();
+ * HandCategory category = HandCategory.of(outs.value(Card.fromString("3h")));
+ * }</pre>
+ *
+ * @see HandCategory
+ */
+public final class Outs {
+    private final int value;
+    private final long candidates;
+    private final long improving;
+    private final long beating;
+    private final short[] values;
+    private final float[] shares;
+
+    private Outs(int value, long candidates, long improving, long beating, short[] values, float[] shares) {
+        this.value = value;
+        this.candidates = candidates;
+        this.improving = improving;
+        this.beating = beating;
+        this.values = values;
+        this.shares = shares;
+    }
+
+    /**
+     * Calculates the outs of the given hole cards.
+     *
+     * @param hole the two hole cards
+     * @param board the board, 3 or 4 cards
+     * @param dead the cards that cannot come, e.g. cards seen by the player
+     * @return the candidates for the next board card and their results
+     * @throws IllegalArgumentException if there are not exactly 2 hole cards, the board does not
+     *         have 3 or 4 cards, or any of the card sets overlap
+     */
+    public static Outs calculate(CardSet hole, CardSet board, CardSet dead) {
+        return calculate(hole, board, dead, null);
+    }
+
+    /**
+     * Calculates the outs of the given hole cards, including the cards that beat an opponent range.
+     *
+     * @param hole the two hole cards
+     * @param board the board, 3 or 4 cards
+     * @param dead the cards that cannot come, e.g. cards seen by the player
+     * @param opponent the range of the opponent, or {@code null} to only look for improvements
+     * @return the candidates for the next board card and their results
+     * @throws IllegalArgumentException if there are not exactly 2 hole cards, the board does not
+     *         have 3 or 4 cards, or any of the card sets overlap
+     */
+    public static Outs calculate(CardSet hole, CardSet board, CardSet dead, Range opponent) {
+        if (hole.size() != 2) {
+            throw new IllegalArgumentException("Exactly 2 hole cards are required.");
+        }
+        if (board.size() < 3 || board.size() > 4) {
+            throw new IllegalArgumentException("The board must have 3 or 4 cards.");
+        }
+        final long used = hole.mask() | board.mask() | dead.mask();
+        if (Long.bitCount(used) != 2 + board.size() + dead.size()) {
+            throw new IllegalArgumentException("Illegal cards.");
+        }
+
+        final var boardState = new HandState(board);
+        final var hand = new HandState(hole.union(board));
+        final var value = hand.rank();
+        final var category = HandCategory.of(value);
+
+        final var candidates = CardSet.FULL_DECK.mask() & ~used;
+        final var values = new short[Card.DECK_SIZE];
+        final var shares = opponent == null ? null : new float[Card.DECK_SIZE];
+        var improving = 0L;
+        var beating = 0L;
+        for (var remaining = candidates; remaining != 0; remaining &= remaining - 1) {
+            final var card = Long.numberOfTrailingZeros(remaining);
+            final var bit = 1L << card;
+            hand.add(card);
+            final var result = hand.rank();
+            hand.remove(card);
+            values[card] = (short) result;
+
+            if (HandCategory.of(result).compareTo(category) < 0) {
+                improving |= bit;
+            }
+            if (opponent != null) {
+                boardState.add(card);
+                shares[card] = share(result, boardState, used | bit, opponent);
+                boardState.remove(card);
+                if (shares[card] > 0.5f) {
+                    beating |= bit;
+                }
+            }
+        }
+
+        return new Outs(value, candidates, improving, beating, values, shares);
+    }
+
+    /**
+     * Returns the value of the hand before the next card.
+     *
+     * @return the value of the best 5-card hand of the hole and board cards
+     */
+    public int value() {
+        return value;
+    }
+
+    /**
+     * Returns the cards that can come on the next street.
+     *
+     * @return the cards that are neither hole, board nor dead cards
+     */
+    public CardSet candidates() {
+        return new CardSet(candidates);
+    }
+
+    /**
+     * Returns the cards that improve the category of the hand.
+     *
+     * @return the candidates after which the hand is in a better category
+     */
+    public CardSet improving() {
+        return new CardSet(improving);
+    }
+
+    /**
+     * Returns the cards after which the hand is ahead of the opponent range.
+     *
+     * @return the candidates after which the hand beats more than half of the
+     *         opponent range, or an empty set if no range was given
+     */
+    public CardSet beating() {
+        return new CardSet(beating);
+    }
+
+    /**
+     * Returns the value of the hand if the given card comes.
+     *
+     * @param card a candidate card
+     * @return the value of the best 5-card hand with the card
+     * @throws IllegalArgumentException if the card is not a candidate
+     */
+    public int value(Card card) {
+        return values[candidate(card)];
+    }
+
+    /**
+     * Returns the share of the opponent range the hand beats if the given card comes.
+     *
+     * @param card a candidate card
+     * @return the weight of the beaten combos plus half the weight of the tied ones,
+     *         divided by the weight of all possible combos, or {@code NaN} if no range was given
+     *         or no opponent combo is possible
+     * @throws IllegalArgumentException if the card is not a candidate
+     */
+    public float share(Card card) {
+        final var index = candidate(card);
+        return shares == null ? Float.NaN : shares[index];
+    }
+
+    private int candidate(Card card) {
+        final var index = card.getIndex();
+        if ((candidates & (1L << index)) == 0) {
+            throw new IllegalArgumentException("Not a candidate: " + card);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the share of the opponent range beaten by the given hand value on a board.
+     */
+    private static float share(int value, HandState board, long used, Range opponent) {
+        var beaten = 0.0;
+        var total = 0.0;
+        for (var combo : opponent.sharedCombos()) {
+            if ((Range.MASKS[combo] & used) != 0) {
+                continue;
+            }
+            board.add(Range.LOW[combo]);
+            board.add(Range.HIGH[combo]);
+            final var result = board.rank();
+            board.remove(Range.HIGH[combo]);
+            board.remove(Range.LOW[combo]);
+
+            final var weight = opponent.weight(combo);
+            total += weight;
+            if (value < result) {
+                beaten += weight;
+            } else if (value == result) {
+                beaten += weight / 2.0;
+            }
+        }
+        return total == 0 ? Float.NaN : (float) (beaten / total);
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.jmp.poker;
+
+import java.util.Arrays;
+
+/**
+ * Perfect hash table from prime products of card ranks to hand values.
+ *
+ * <p>This follows the idea of Paul Senzee's hash used for 5-card hands: the
+ * key is mixed, some of the mixed bits select an adjustment value, and the
+ * adjusted key selects the slot. Instead of being hard-coded, the adjustment
+ * values are searched for when the table is built, so that no two keys share
+ * a slot. This makes it possible to generate tables for hand sizes other than
+ * five at class initialization time.
+ *
+ * <p>Looking up a key that was not in the table returns an arbitrary value.
+ */
+final class PerfectHash {
+    private static final int BUCKET_SHIFT = 8;
+    private static final int MAX_ADJUST = 1 << 16;
+
+    private final int[] adjust;
+    private final short[] values;
+    private final int bucketMask;
+    private final int shift;
+
+    /**
+     * Builds a perfect hash table for the given keys.
+     *
+     * @param keys the distinct keys
+     * @param values the value of each key
+     * @param bits the base-2 logarithm of the number of slots
+     * @param bucketBits the base-2 logarithm of the number of adjustment values
+     * @throws IllegalStateException if no collision-free table could be found
+     */
+    PerfectHash(int[] keys, short[] values, int bits, int bucketBits) {
+        this.adjust = new int[1 << bucketBits];
+        this.values = new short[1 << bits];
+        this.bucketMask = (1 << bucketBits) - 1;
+        this.shift = 32 - bits;
+
+        // Group the mixed keys by bucket
+        final var starts = new int[adjust.length + 1];
+        for (var key : keys) {
+            starts[bucket(mix(key)) + 1]++;
+        }
+        for (var i = 0; i < adjust.length; i++) {
+            starts[i + 1] += starts[i];
+        }
+        final var members = new int[keys.length];
+        final var next = starts.clone();
+        for (var i = 0; i < keys.length; i++) {
+            members[next[bucket(mix(keys[i]))]++] = i;
+        }
+
+        // Place the largest buckets first, while the table is still empty
+        final var order = new Integer[adjust.length];
+        for (var i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> (starts[b + 1] - starts[b]) - (starts[a + 1] - starts[a]));
+
+        final var used = new boolean[this.values.length];
+        for (var bucket : order) {
+            final var start = starts[bucket];
+            final var end = starts[bucket + 1];
+            if (start == end) {
+                continue;
+            }
+
+            var placed = false;
+            for (var candidate = 0; candidate < MAX_ADJUST && !placed; candidate++) {
+                var count = start;
+                while (count < end) {
+                    final var slot = slot(mix(keys[members[count]]), candidate);
+                    if (used[slot]) {
+                        break;
+                    }
+                    used[slot] = true;
+                    count++;
+                }
+
+                if (count == end) {
+                    adjust[bucket] = candidate;
+                    placed = true;
+                } else {
+                    for (var i = start; i < count; i++) {
+                        used[slot(mix(keys[members[i]]), candidate)] = false;
+                    }
+                }
+            }
+
+            if (!placed) {
+                throw new IllegalStateException("Unable to build perfect hash.");
+            }
+        }
+
+        for (var i = 0; i < keys.length; i++) {
+            final var mixed = mix(keys[i]);
+            this.values[slot(mixed, adjust[bucket(mixed)])] = values[i];
+        }
+    }
+
+    /**
+     * Returns the value stored for the given key.
+     *
+     * @param key the prime product of the card ranks
+     * @return the value of the hand
+     */
+    int get(int key) {
+        final int mixed = mix(key);
+        return values[slot(mixed, adjust[bucket(mixed)])];
+    }
+
+    private int bucket(int mixed) {
+        return (mixed >>> BUCKET_SHIFT) & bucketMask;
+    }
+
+    private int slot(int mixed, int adjustment) {
+        return ((mixed ^ adjustment) * 0x9E3779B1) >>> shift;
+    }
+
+    /**
+     * Scrambles the bits of a key (the MurmurHash3 finalizer).
+     *
+     * @param key the key to mix
+     * @return the mixed key
+     */
+    private static int mix(int key) {
+        key ^= key >>> 16;
+        key *= 0x85EBCA6B;
+        key ^= key >>> 13;
+        key *= 0xC2B2AE35;
+        key ^= key >>> 16;
+        return key;
+    }
+}
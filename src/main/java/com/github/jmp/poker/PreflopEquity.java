@@ -0,0 +1,312 @@
+package com.github.jmp.poker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed heads-up preflop equities between the 169 starting hand classes.
+ *
+ * <p>A starting hand class is a pair, a suited hand or an offsuit hand, such as
+ * {@code TT}, {@code AKs} or {@code 72o}. Classes are numbered on a 13×13 grid
+ * by rank value (see {@link Rank#getValue()}): pairs are on the diagonal at
+ * {@code rank * 13 + rank}, suited hands at {@code high * 13 + low} and
+ * offsuit hands at {@code low * 13 + high}.
+ *
+ * <p>The equity of one class against another is the average exact equity of
+ * all pairs of their combos that do not share a card. The table is computed
+ * once with {@link #generate(Path)}, which takes a while, and then
+ * {@link #load(Path) loaded} by mapping the file read-only, so that an
+ * equity is a single read from the page cache instead of an enumeration of
+ * 1,712,304 boards.
+ *
+ * <p>The file starts with a 4-byte magic number and the number of classes,
+ * followed by the 169 × 169 equities as big-endian floats, row by row.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * PreflopEquity.generate(Path.of("preflop.bin")); // once
+ * var table = PreflopEquity.load(Path.of("preflop.bin"));
+ * float equity = table.equity("AKs", "QQ");
+ * }</pre>
+ *
+ * @see HeadsUpEquity
+ */
+public final class PreflopEquity {
+    /** Number of starting hand classes. */
+    public static final int CLASSES = 169;
+
+    private static final int MAGIC = 0x50455131; // "PEQ1"
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int RANKS = 13;
+
+    private final FloatBuffer table;
+
+    private PreflopEquity(FloatBuffer table) {
+        this.table = table;
+    }
+
+    /**
+     * Maps a table written by {@link #generate(Path)}.
+     *
+     * @param file the table file
+     * @return the loaded table
+     * @throws IOException if the file cannot be read or is not a valid table
+     */
+    public static PreflopEquity load(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER_SIZE + (long) CLASSES * CLASSES * Float.BYTES) {
+                throw new IOException("Invalid preflop equity file: " + file);
+            }
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != CLASSES) {
+                throw new IOException("Invalid preflop equity file: " + file);
+            }
+            return new PreflopEquity(buffer.position(HEADER_SIZE).slice().asFloatBuffer());
+        }
+    }
+
+    /**
+     * Computes the full table and writes it to a file.
+     *
+     * <p>Suit isomorphism cuts the 812,175 matchups of two combos down to
+     * the 47,008 that are not suit permutations of each other, and each of
+     * those is enumerated once on the common fork/join pool. This is the only
+     * way to build the table; call it once, e.g. from a setup step, and
+     * {@link #load(Path) load} the file afterwards.
+     *
+     * @param file the file to write, replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public static void generate(Path file) throws IOException {
+        write(compute(), file);
+    }
+
+    /**
+     * Returns the equity of one starting hand class against another.
+     *
+     * @param hand the class of the player
+     * @param opponent the class of the opponent
+     * @return the share of the pot the player wins on average, between 0 and 1
+     * @throws IllegalArgumentException if a class is not between 0 and 168
+     */
+    public float equity(int hand, int opponent) {
+        if (hand < 0 || hand >= CLASSES || opponent < 0 || opponent >= CLASSES) {
+            throw new IllegalArgumentException("Invalid hand class.");
+        }
+        return table.get(index(hand, opponent));
+    }
+
+    /**
+     * Returns the equity of one starting hand class against another.
+     *
+     * @param hand the class of the player, e.g. "AKs"
+     * @param opponent the class of the opponent, e.g. "QQ"
+     * @return the share of the pot the player wins on average, between 0 and 1
+     * @throws IllegalArgumentException if a class is invalid
+     */
+    public float equity(String hand, String opponent) {
+        return equity(classOf(hand), classOf(opponent));
+    }
+
+    /**
+     * Returns the starting hand class of two hole cards.
+     *
+     * @param card1 one hole card
+     * @param card2 the other hole card
+     * @return the class between 0 and 168
+     * @throws IllegalArgumentException if the cards are the same
+     */
+    public static int classOf(Card card1, Card card2) {
+        if (card1.getIndex() == card2.getIndex()) {
+            throw new IllegalArgumentException("The hole cards must be distinct.");
+        }
+        return classOf(card1.getIndex(), card2.getIndex());
+    }
+
+    /**
+     * Parses a starting hand class, like {@code TT}, {@code AKs} or {@code 72o}.
+     *
+     * @param string the class, with the suffix {@code s} or {@code o} for non-pairs
+     * @return the class between 0 and 168
+     * @throws IllegalArgumentException if the string is not a valid class
+     */
+    public static int classOf(String string) {
+        final var first = string.isEmpty() ? -1 : Card.RANKS.indexOf(string.charAt(0));
+        final var second = string.length() < 2 ? -1 : Card.RANKS.indexOf(string.charAt(1));
+        if (first < 0 || second < 0) {
+            throw new IllegalArgumentException("Invalid hand class: " + string);
+        }
+
+        final var high = Math.max(first, second);
+        final var low = Math.min(first, second);
+        if (high == low && string.length() == 2) {
+            return high * RANKS + low;
+        }
+        if (high != low && string.length() == 3 && string.charAt(2) == 's') {
+            return high * RANKS + low;
+        }
+        if (high != low && string.length() == 3 && string.charAt(2) == 'o') {
+            return low * RANKS + high;
+        }
+        throw new IllegalArgumentException("Invalid hand class: " + string);
+    }
+
+    /**
+     * Returns the string representation of a starting hand class.
+     *
+     * @param handClass the class between 0 and 168
+     * @return the class, e.g. "AKs"
+     * @throws IllegalArgumentException if the class is not between 0 and 168
+     */
+    public static String toString(int handClass) {
+        if (handClass < 0 || handClass >= CLASSES) {
+            throw new IllegalArgumentException("Invalid hand class: " + handClass);
+        }
+        final var row = handClass / RANKS;
+        final var column = handClass % RANKS;
+        final var high = Card.RANKS.charAt(Math.max(row, column));
+        final var low = Card.RANKS.charAt(Math.min(row, column));
+        if (row == column) {
+            return "" + high + low;
+        }
+        return "" + high + low + (row > column ? 's' : 'o');
+    }
+
+    /**
+     * Computes the equities of all pairs of classes, row by row.
+     */
+    static float[] compute() {
+        final var combos = combosByClass();
+
+        // Collect the canonical matchups, then enumerate each of them once
+        final var keys = new TreeSet<Long>();
+        for (var hand = 0; hand < CLASSES; hand++) {
+            for (var opponent = hand; opponent < CLASSES; opponent++) {
+                for (var combo1 : combos[hand]) {
+                    for (var combo2 : combos[opponent]) {
+                        if ((Range.MASKS[combo1] & Range.MASKS[combo2]) == 0) {
+                            keys.add(canonical(combo1, combo2) >>> 1);
+                        }
+                    }
+                }
+            }
+        }
+        final var matchups = keys.stream().mapToLong(Long::longValue).toArray();
+        final var equities = IntStream.range(0, matchups.length).parallel()
+            .mapToDouble(i -> matchupEquity(matchups[i]))
+            .toArray();
+
+        final var table = new float[CLASSES * CLASSES];
+        for (var hand = 0; hand < CLASSES; hand++) {
+            for (var opponent = hand; opponent < CLASSES; opponent++) {
+                final var equity = classEquity(
+                    combos[hand], combos[opponent], key -> equities[Arrays.binarySearch(matchups, key)]
+                );
+                table[index(hand, opponent)] = (float) equity;
+                if (opponent != hand) {
+                    table[index(opponent, hand)] = (float) (1 - equity);
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Computes the equity of one class against another by enumerating each
+     * canonical matchup, without a table.
+     */
+    static double classEquity(int hand, int opponent) {
+        final var combos = combosByClass();
+        return classEquity(combos[hand], combos[opponent], PreflopEquity::matchupEquity);
+    }
+
+    static void write(float[] table, Path file) throws IOException {
+        final var buffer = ByteBuffer.allocate(HEADER_SIZE + table.length * Float.BYTES);
+        buffer.putInt(MAGIC).putInt(CLASSES);
+        buffer.asFloatBuffer().put(table);
+        Files.write(file, buffer.array());
+    }
+
+    private static double classEquity(int[] hands, int[] opponents, MatchupEquity matchups) {
+        var sum = 0.0;
+        var count = 0;
+        for (var combo1 : hands) {
+            for (var combo2 : opponents) {
+                if ((Range.MASKS[combo1] & Range.MASKS[combo2]) == 0) {
+                    final var canonical = canonical(combo1, combo2);
+                    final var equity = matchups.equity(canonical >>> 1);
+                    sum += (canonical & 1) == 0 ? equity : 1 - equity;
+                    count++;
+                }
+            }
+        }
+        return sum / count;
+    }
+
+    /**
+     * Returns the exact equity of the lower combo of a canonical matchup.
+     */
+    private static double matchupEquity(long key) {
+        final var player = Range.cards((int) (key / Range.COMBOS));
+        final var opponent = Range.cards((int) (key % Range.COMBOS));
+        return HeadsUpEquity.enumerate(player, opponent, CardSet.EMPTY, CardSet.EMPTY).equity();
+    }
+
+    /**
+     * Returns the smallest key {@code low * 1326 + high} of the two combos over
+     * all suit permutations, shifted left by one, with the lowest bit set if the
+     * first combo maps to the higher one.
+     */
+    private static long canonical(int combo1, int combo2) {
+        var best = Long.MAX_VALUE;
+        for (var permutation : SuitPermutations.ALL) {
+            final var mapped1 = SuitPermutations.combo(combo1, permutation);
+            final var mapped2 = SuitPermutations.combo(combo2, permutation);
+            final long key = Math.min(mapped1, mapped2) * (long) Range.COMBOS + Math.max(mapped1, mapped2);
+            best = Math.min(best, key << 1 | (mapped1 > mapped2 ? 1 : 0));
+        }
+        return best;
+    }
+
+    private static int classOf(int card1, int card2) {
+        final var rank1 = card1 % RANKS;
+        final var rank2 = card2 % RANKS;
+        final var high = Math.max(rank1, rank2);
+        final var low = Math.min(rank1, rank2);
+        return card1 / RANKS == card2 / RANKS ? high * RANKS + low : low * RANKS + high;
+    }
+
+    private static int[][] combosByClass() {
+        final var counts = new int[CLASSES];
+        final var combos = new int[CLASSES][];
+        for (var combo = 0; combo < Range.COMBOS; combo++) {
+            counts[classOf(Range.LOW[combo], Range.HIGH[combo])]++;
+        }
+        for (var handClass = 0; handClass < CLASSES; handClass++) {
+            combos[handClass] = new int[counts[handClass]];
+            counts[handClass] = 0;
+        }
+        for (var combo = 0; combo < Range.COMBOS; combo++) {
+            final var handClass = classOf(Range.LOW[combo], Range.HIGH[combo]);
+            combos[handClass][counts[handClass]++] = combo;
+        }
+        return combos;
+    }
+
+    private static int index(int hand, int opponent) {
+        return hand * CLASSES + opponent;
+    }
+
+    @FunctionalInterface
+    private interface MatchupEquity {
+        double equity(long key);
+    }
+}
@@ -0,0 +1,306 @@
+package com.github.jmp.poker;
+
+/**
+ * Represents an immutable weighted range of Texas Hold'em starting hands.
+ *
+ * <p>A range assigns a weight between 0 and 1 to each of the 1,326 two-card
+ * combinations ("combos"). A combo is identified by its index: for the deck
+ * indexes {@code a < b} of its cards (see {@link Card#getIndex()}), the index
+ * is {@code b * (b - 1) / 2 + a}, between 0 and 1325.
+ *
+ * <p>Ranges are parsed from the usual notation, a comma-separated list of:
+ * <ul>
+ * <li>pairs: {@code TT}, {@code TT+} (tens or better), {@code TT-77}</li>
+ * <li>suited or offsuit hands: {@code AKs}, {@code KQo}, {@code AK} (both)</li>
+ * <li>increasing kickers: {@code ATs+} (ace-ten to ace-king suited)</li>
+ * <li>kicker ranges: {@code A5s-A2s}</li>
+ * <li>single combos: {@code AhKh}</li>
+ * </ul>
+ * Each item can be followed by a weight, e.g. {@code AKo:0.5}; the default
+ * weight is 1. Ranks and suits use the characters of {@link Card#fromString(String)}.
+ * When items overlap, the later one wins.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var range = Range.parse("TT+, AKs, A5s-A2s, KQo:0.5").without(CardSet.fromString("Ah 7c 2d"));
+ * for (int combo : range.combos()) {
+ *     float weight = range.weight(combo);
+ * }
+ * }</pre>
+ */
+public final class Range {
+    /** Number of two-card combinations. */
+    public static final int COMBOS = 1326;
+
+    /** Card mask of each combo. */
+    static final long[] MASKS = new long[COMBOS];
+
+    /** Deck index of the lower card of each combo. */
+    static final byte[] LOW = new byte[COMBOS];
+
+    /** Deck index of the higher card of each combo. */
+    static final byte[] HIGH = new byte[COMBOS];
+
+    static {
+        for (var high = 1; high < Card.DECK_SIZE; high++) {
+            for (var low = 0; low < high; low++) {
+                final var combo = index(low, high);
+                MASKS[combo] = (1L << low) | (1L << high);
+                LOW[combo] = (byte) low;
+                HIGH[combo] = (byte) high;
+            }
+        }
+    }
+
+    private final float[] weights;
+    private final int[] combos;
+
+    private Range(float[] weights) {
+        this.weights = weights;
+
+        var count = 0;
+        for (var weight : weights) {
+            if (weight > 0) {
+                count++;
+            }
+        }
+        this.combos = new int[count];
+        count = 0;
+        for (var combo = 0; combo < COMBOS; combo++) {
+            if (weights[combo] > 0) {
+                combos[count++] = combo;
+            }
+        }
+    }
+
+    /**
+     * Parses a range from its string representation.
+     *
+     * @param string the comma-separated range items, e.g. "TT+, AKs, A5s-A2s, KQo"
+     * @return the parsed range
+     * @throws IllegalArgumentException if an item or weight is invalid
+     */
+    public static Range parse(String string) {
+        final var weights = new float[COMBOS];
+
+        for (var part : string.split(",")) {
+            final var item = part.strip();
+            if (item.isEmpty()) {
+                continue;
+            }
+
+            var hands = item;
+            var weight = 1f;
+            final var colon = item.indexOf(':');
+            if (colon >= 0) {
+                hands = item.substring(0, colon);
+                weight = parseWeight(item.substring(colon + 1), item);
+            }
+
+            parseItem(hands, weight, weights, item);
+        }
+
+        return new Range(weights);
+    }
+
+    /**
+     * Returns the combo index of two distinct cards, in either order.
+     *
+     * @param card1 the deck index of one card
+     * @param card2 the deck index of the other card
+     * @return the combo index between 0 and 1325
+     */
+    public static int index(int card1, int card2) {
+        final var low = Math.min(card1, card2);
+        final var high = Math.max(card1, card2);
+        return high * (high - 1) / 2 + low;
+    }
+
+    /**
+     * Returns the combo index of two distinct cards, in either order.
+     *
+     * @param card1 one card
+     * @param card2 the other card
+     * @return the combo index between 0 and 1325
+     */
+    public static int index(Card card1, Card card2) {
+        return index(card1.getIndex(), card2.getIndex());
+    }
+
+    /**
+     * Returns the cards of a combo.
+     *
+     * @param combo the combo index
+     * @return a set of the two cards
+     */
+    public static CardSet cards(int combo) {
+        return new CardSet(MASKS[combo]);
+    }
+
+    /**
+     * Returns the weight of a combo.
+     *
+     * @param combo the combo index
+     * @return the weight between 0 (not in the range) and 1
+     */
+    public float weight(int combo) {
+        return weights[combo];
+    }
+
+    /**
+     * Returns the indexes of the combos with a positive weight, in ascending order.
+     *
+     * @return a new array of the combo indexes
+     */
+    public int[] combos() {
+        return combos.clone();
+    }
+
+    /**
+     * Returns the combo indexes without copying them, for the loops run once per board.
+     *
+     * <p>The returned array is shared and must not be modified.
+     */
+    int[] sharedCombos() {
+        return combos;
+    }
+
+    /**
+     * Returns the number of combos with a positive weight.
+     *
+     * @return the number of combos in the range
+     */
+    public int size() {
+        return combos.length;
+    }
+
+    /**
+     * Returns this range without the combos that contain any of the given cards.
+     *
+     * @param dead the cards that cannot be in a player's hand, e.g. the board
+     * @return a range with the weights of the blocked combos set to 0
+     */
+    public Range without(CardSet dead) {
+        final var result = weights.clone();
+        for (var combo : combos) {
+            if ((MASKS[combo] & dead.mask()) != 0) {
+                result[combo] = 0;
+            }
+        }
+        return new Range(result);
+    }
+
+    private static float parseWeight(String string, String item) {
+        final float weight;
+        try {
+            weight = Float.parseFloat(string.strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid weight: " + item, e);
+        }
+        if (!(weight >= 0 && weight <= 1)) {
+            throw new IllegalArgumentException("Invalid weight: " + item);
+        }
+        return weight;
+    }
+
+    private static void parseItem(String hands, float weight, float[] weights, String item) {
+        // A single combo, e.g. AhKh, has a suit as its second character
+        if (hands.length() == 4 && Character.isLowerCase(hands.charAt(1))) {
+            final Card first;
+            final Card second;
+            try {
+                first = Card.fromString(hands.substring(0, 2));
+                second = Card.fromString(hands.substring(2));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid range: " + item, e);
+            }
+            if (first.getIndex() == second.getIndex()) {
+                throw new IllegalArgumentException("Invalid range: " + item);
+            }
+            weights[index(first, second)] = weight;
+            return;
+        }
+
+        final var dash = hands.indexOf('-');
+        if (dash >= 0) {
+            final var from = parseHand(hands.substring(0, dash), item);
+            final var to = parseHand(hands.substring(dash + 1), item);
+            // Either TT-77 (both ranks change) or A5s-A2s (the kicker changes)
+            if (from.pair() && to.pair()) {
+                for (var rank = Math.min(from.low, to.low); rank <= Math.max(from.low, to.low); rank++) {
+                    set(rank, rank, Suitedness.ANY, weight, weights);
+                }
+            } else if (!from.pair() && !to.pair() && from.high == to.high && from.suited == to.suited) {
+                for (var rank = Math.min(from.low, to.low); rank <= Math.max(from.low, to.low); rank++) {
+                    set(from.high, rank, from.suited, weight, weights);
+                }
+            } else {
+                throw new IllegalArgumentException("Invalid range: " + item);
+            }
+            return;
+        }
+
+        final var plus = hands.endsWith("+");
+        final var hand = parseHand(plus ? hands.substring(0, hands.length() - 1) : hands, item);
+        if (!plus) {
+            set(hand.high, hand.low, hand.suited, weight, weights);
+        } else if (hand.pair()) {
+            for (var rank = hand.low; rank < Card.RANKS.length(); rank++) {
+                set(rank, rank, hand.suited, weight, weights);
+            }
+        } else {
+            for (var rank = hand.low; rank < hand.high; rank++) {
+                set(hand.high, rank, hand.suited, weight, weights);
+            }
+        }
+    }
+
+    /**
+     * Parses a hand like {@code TT}, {@code AK}, {@code AKs} or {@code AKo}.
+     */
+    private static ParsedHand parseHand(String string, String item) {
+        if (string.length() < 2 || string.length() > 3) {
+            throw new IllegalArgumentException("Invalid range: " + item);
+        }
+
+        final var first = Card.RANKS.indexOf(string.charAt(0));
+        final var second = Card.RANKS.indexOf(string.charAt(1));
+        final var suited = string.length() == 2 ? Suitedness.ANY : switch (string.charAt(2)) {
+            case 's' -> Suitedness.SUITED;
+            case 'o' -> Suitedness.OFFSUIT;
+            default -> throw new IllegalArgumentException("Invalid range: " + item);
+        };
+        if (first < 0 || second < 0 || (first == second && suited != Suitedness.ANY)) {
+            throw new IllegalArgumentException("Invalid range: " + item);
+        }
+
+        return new ParsedHand(Math.max(first, second), Math.min(first, second), suited);
+    }
+
+    /**
+     * Sets the weight of all combos of the given ranks.
+     */
+    private static void set(int high, int low, Suitedness suited, float weight, float[] weights) {
+        for (var suit1 = 0; suit1 < 4; suit1++) {
+            for (var suit2 = 0; suit2 < 4; suit2++) {
+                final var card1 = suit1 * 13 + high;
+                final var card2 = suit2 * 13 + low;
+                if (card1 == card2
+                    || (high == low && suit1 > suit2)
+                    || (suited == Suitedness.SUITED && suit1 != suit2)
+                    || (suited == Suitedness.OFFSUIT && suit1 == suit2)) {
+                    continue;
+                }
+                weights[index(card1, card2)] = weight;
+            }
+        }
+    }
+
+    private enum Suitedness { ANY, SUITED, OFFSUIT }
+
+    private record ParsedHand(int high, int low, Suitedness suited) {
+        boolean pair() {
+            return high == low;
+        }
+    }
+}
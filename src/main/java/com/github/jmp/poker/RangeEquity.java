@@ -0,0 +1,231 @@
+package com.github.jmp.poker;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Represents the Texas Hold'em equity of one range against another.
+ *
+ * <p>The counts are sums over all matchups of a player combo, an opponent
+ * combo and a board that do not share any card, weighted by the product of
+ * the weights of the two combos. Use {@link #enumerate(Range, Range, CardSet, CardSet)}
+ * to go through every board, or {@link #sample(Range, Range, CardSet, CardSet, int, long)}
+ * to go through random ones.
+ *
+ * <p>Instead of comparing every pair of combos, each board evaluates every
+ * live combo once, sorts the combos by value and sweeps through them from the
+ * worst to the best, keeping the total weight of the opponent combos beaten
+ * so far. Per-card totals remove the opponent combos that share a card with
+ * the player's combo. This makes a board cost O(n log n) instead of O(n²)
+ * for n combos. Boards are split across the common fork/join pool.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var result = RangeEquity.enumerate(
+ *     Range.parse("TT+, AKs"), Range.parse("22+, AT+, KQ"), CardSet.fromString("Ah 7c 2d"), CardSet.EMPTY
+ * );
+ * double equity = result.equity();
+ * }</pre>
+ *
+ * @param wins the weight of the matchups the player wins
+ * @param ties the weight of the matchups that are split
+ * @param losses the weight of the matchups the opponent wins
+ * @see Range
+ */
+public record RangeEquity(double wins, double ties, double losses) {
+    private static final int BOARD_SIZE = 5;
+
+    /** Number of boards evaluated by each task. */
+    private static final int CHUNK_SIZE = 64;
+
+    /**
+     * Returns the equity of the player, counting ties as half a win.
+     *
+     * @return the share of the pot the player wins on average, between 0 and 1
+     */
+    public double equity() {
+        return (wins + ties / 2) / (wins + ties + losses);
+    }
+
+    /**
+     * Calculates the exact equity of the player's range over every completion of the board.
+     *
+     * <p>On the flop this is 1,176 boards at most, but preflop it is over 2.5
+     * million boards, for which {@link #sample(Range, Range, CardSet, CardSet, int, long)}
+     * is usually the better choice.
+     *
+     * @param player the range of the player
+     * @param opponent the range of the opponent
+     * @param board the known board cards, between 0 and 5
+     * @param dead the cards that cannot be in either hand or on the board
+     * @return the weighted win, tie and loss counts of the player
+     * @throws IllegalArgumentException if the board has more than 5 cards, the board and
+     *         dead cards overlap, or no matchup is possible
+     */
+    public static RangeEquity enumerate(Range player, Range opponent, CardSet board, CardSet dead) {
+        final var setup = new Setup(player, opponent, board, dead);
+        final var count = Combinations.count(setup.live.length, setup.missing);
+        return setup.run(count, null);
+    }
+
+    /**
+     * Estimates the equity of the player's range over random completions of the board.
+     *
+     * <p>The result only depends on the seed, not on how the boards are
+     * split between threads.
+     *
+     * @param player the range of the player
+     * @param opponent the range of the opponent
+     * @param board the known board cards, between 0 and 5
+     * @param dead the cards that cannot be in either hand or on the board
+     * @param boards the number of random boards
+     * @param seed the seed of the random number generator
+     * @return the weighted win, tie and loss counts of the player
+     * @throws IllegalArgumentException if the board has more than 5 cards, the board and
+     *         dead cards overlap, the number of boards is not positive, or no matchup is possible
+     */
+    public static RangeEquity sample(
+        Range player, Range opponent, CardSet board, CardSet dead, int boards, long seed
+    ) {
+        if (boards <= 0) {
+            throw new IllegalArgumentException("The number of boards must be positive.");
+        }
+        final var setup = new Setup(player, opponent, board, dead);
+        return setup.run(boards, new SplittableRandom(seed));
+    }
+
+    /**
+     * The fixed inputs of a calculation.
+     */
+    private static final class Setup {
+        final float[] player = new float[Range.COMBOS];
+        final float[] opponent = new float[Range.COMBOS];
+        final int[] playerCombos;
+        final int[] opponentCombos;
+        final int[] combos;
+        final long known;
+        final int[] live;
+        final int missing;
+
+        Setup(Range player, Range opponent, CardSet board, CardSet dead) {
+            if (board.size() > BOARD_SIZE) {
+                throw new IllegalArgumentException("At most 5 board cards are allowed.");
+            }
+            if (board.intersects(dead)) {
+                throw new IllegalArgumentException("Illegal cards.");
+            }
+
+            final var blocked = board.union(dead);
+            this.playerCombos = weights(player.without(blocked), this.player);
+            this.opponentCombos = weights(opponent.without(blocked), this.opponent);
+            if (!compatible(playerCombos, opponentCombos)) {
+                throw new IllegalArgumentException("No matchup is possible.");
+            }
+            this.combos = IntStream.range(0, Range.COMBOS)
+                .filter(combo -> this.player[combo] != 0 || this.opponent[combo] != 0)
+                .toArray();
+
+            this.known = board.mask();
+            this.missing = BOARD_SIZE - board.size();
+            this.live = new int[Card.DECK_SIZE - blocked.size()];
+            var count = 0;
+            for (var card = 0; card < Card.DECK_SIZE; card++) {
+                if ((blocked.mask() & (1L << card)) == 0) {
+                    live[count++] = card;
+                }
+            }
+        }
+
+        private static int[] weights(Range range, float[] weights) {
+            for (var combo : range.sharedCombos()) {
+                weights[combo] = range.weight(combo);
+            }
+            return range.sharedCombos();
+        }
+
+        private static boolean compatible(int[] playerCombos, int[] opponentCombos) {
+            for (var player : playerCombos) {
+                for (var opponent : opponentCombos) {
+                    if ((Range.MASKS[player] & Range.MASKS[opponent]) == 0) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Evaluates the given number of boards: the boards with those colex
+         * indexes, or random ones if a generator is given.
+         */
+        RangeEquity run(int boards, SplittableRandom random) {
+            final var chunks = (boards + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            final var generators = new SplittableRandom[chunks];
+            if (random != null) {
+                for (var i = 0; i < chunks; i++) {
+                    generators[i] = random.split();
+                }
+            }
+
+            final var results = new double[chunks][3];
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                final var sweep = new RiverSweep();
+                final var indexes = new int[missing];
+                final var end = Math.min(boards, (chunk + 1) * CHUNK_SIZE);
+                for (var i = chunk * CHUNK_SIZE; i < end; i++) {
+                    if (random == null) {
+                        Combinations.unindex(i, indexes);
+                    } else {
+                        draw(generators[chunk], indexes);
+                    }
+
+                    var mask = known;
+                    for (var index : indexes) {
+                        mask |= 1L << live[index];
+                    }
+                    sweep.run(mask, combos, player, opponent);
+                    for (var combo : playerCombos) {
+                        if ((Range.MASKS[combo] & mask) == 0) {
+                            final var weight = player[combo];
+                            results[chunk][0] += weight * sweep.wins[combo];
+                            results[chunk][1] += weight * sweep.ties[combo];
+                            results[chunk][2] += weight * (sweep.totals[combo] - sweep.wins[combo] - sweep.ties[combo]);
+                        }
+                    }
+                }
+            });
+
+            // Sum in chunk order, so that the result does not depend on scheduling
+            var wins = 0.0;
+            var ties = 0.0;
+            var losses = 0.0;
+            for (var result : results) {
+                wins += result[0];
+                ties += result[1];
+                losses += result[2];
+            }
+            if (wins + ties + losses == 0) {
+                throw new IllegalArgumentException("No matchup is possible.");
+            }
+            return new RangeEquity(wins, ties, losses);
+        }
+
+        /**
+         * Draws distinct random positions in the live cards.
+         */
+        private void draw(SplittableRandom random, int[] indexes) {
+            for (var i = 0; i < indexes.length; i++) {
+                int index;
+                boolean repeated;
+                do {
+                    index = random.nextInt(live.length);
+                    repeated = false;
+                    for (var j = 0; j < i; j++) {
+                        repeated |= indexes[j] == index;
+                    }
+                } while (repeated);
+                indexes[i] = index;
+            }
+        }
+    }
+}
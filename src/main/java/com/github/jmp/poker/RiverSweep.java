@@ -0,0 +1,125 @@
+package com.github.jmp.poker;
+
+import java.util.Arrays;
+
+/**
+ * Compares the combos of a player range with those of an opponent range on
+ * complete boards, one board at a time, reusing its arrays.
+ *
+ * <p>Every live combo is evaluated once and the combos are sorted by value;
+ * a single sweep from the worst value to the best then gives, for each player
+ * combo, the weight of the opponent combos it beats and ties. Per-card totals
+ * remove the opponent combos that share a card with the player's combo, by
+ * inclusion-exclusion: the same combo in the opponent range contains both
+ * cards, so it is removed twice and added back once.
+ *
+ * @see RangeEquity
+ * @see HandStrength
+ */
+final class RiverSweep {
+    private static final int BOARD_SIZE = 5;
+
+    /** The weight of the opponent combos beaten by each player combo on the last board. */
+    final double[] wins = new double[Range.COMBOS];
+
+    /** The weight of the opponent combos tied by each player combo on the last board. */
+    final double[] ties = new double[Range.COMBOS];
+
+    /** The weight of the opponent combos that do not share a card with each player combo on the last board. */
+    final double[] totals = new double[Range.COMBOS];
+
+    private final long[] entries = new long[Range.COMBOS];
+    private final int[] board = new int[BOARD_SIZE];
+    private final double[] cardTotals = new double[Card.DECK_SIZE];
+    private final double[] beatenCards = new double[Card.DECK_SIZE];
+    private final double[] groupCards = new double[Card.DECK_SIZE];
+
+    /**
+     * Compares the player combos with the opponent combos on the given board.
+     *
+     * <p>Only the entries of {@link #wins}, {@link #ties} and {@link #totals}
+     * of the player combos that miss the board are set.
+     *
+     * @param boardMask the mask of the 5 board cards
+     * @param combos the combos of either range, each once
+     * @param player the weight of each combo in the player range, or {@code null} if every combo weighs 1
+     * @param opponent the weight of each combo in the opponent range, or {@code null} if every combo weighs 1
+     */
+    void run(long boardMask, int[] combos, float[] player, float[] opponent) {
+        var remaining = boardMask;
+        for (var i = 0; i < BOARD_SIZE; i++) {
+            board[i] = Tables.DECK[Long.numberOfTrailingZeros(remaining)];
+            remaining &= remaining - 1;
+        }
+
+        // Evaluate every live combo once. Entries sort by value, then combo.
+        var size = 0;
+        var opponentTotal = 0.0;
+        Arrays.fill(cardTotals, 0);
+        for (var combo : combos) {
+            if ((Range.MASKS[combo] & boardMask) == 0) {
+                final var value = Evaluator.evaluate(
+                    Tables.DECK[Range.LOW[combo]], Tables.DECK[Range.HIGH[combo]],
+                    board[0], board[1], board[2], board[3], board[4]
+                );
+                entries[size++] = ((long) value << 16) | combo;
+
+                final var weight = weight(opponent, combo);
+                opponentTotal += weight;
+                cardTotals[Range.LOW[combo]] += weight;
+                cardTotals[Range.HIGH[combo]] += weight;
+            }
+        }
+        Arrays.sort(entries, 0, size);
+
+        // Sweep from the worst value to the best, one group of equal values at a time
+        var beatenTotal = 0.0;
+        Arrays.fill(beatenCards, 0);
+        for (var end = size; end > 0; ) {
+            final var value = entries[end - 1] >>> 16;
+            var start = end - 1;
+            while (start > 0 && entries[start - 1] >>> 16 == value) {
+                start--;
+            }
+
+            var groupTotal = 0.0;
+            for (var i = start; i < end; i++) {
+                final var combo = (int) entries[i] & 0xFFFF;
+                final var weight = weight(opponent, combo);
+                groupTotal += weight;
+                groupCards[Range.LOW[combo]] += weight;
+                groupCards[Range.HIGH[combo]] += weight;
+            }
+
+            for (var i = start; i < end; i++) {
+                final var combo = (int) entries[i] & 0xFFFF;
+                if (weight(player, combo) != 0) {
+                    final var low = Range.LOW[combo];
+                    final var high = Range.HIGH[combo];
+
+                    // The same combo in the other range is removed by both of its cards
+                    final var same = weight(opponent, combo);
+                    wins[combo] = beatenTotal - beatenCards[low] - beatenCards[high];
+                    ties[combo] = groupTotal - groupCards[low] - groupCards[high] + same;
+                    totals[combo] = opponentTotal - cardTotals[low] - cardTotals[high] + same;
+                }
+            }
+
+            for (var i = start; i < end; i++) {
+                final var combo = (int) entries[i] & 0xFFFF;
+                final var weight = weight(opponent, combo);
+                beatenTotal += weight;
+                beatenCards[Range.LOW[combo]] += weight;
+                beatenCards[Range.HIGH[combo]] += weight;
+                groupCards[Range.LOW[combo]] = 0;
+                groupCards[Range.HIGH[combo]] = 0;
+            }
+
+            end = start;
+        }
+    }
+
+    private static float weight(float[] weights, int combo) {
+        return weights == null ? 1 : weights[combo];
+    }
+}
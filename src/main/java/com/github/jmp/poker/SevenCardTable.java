@@ -0,0 +1,361 @@
+package com.github.jmp.poker;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * Pre-generated state machine that evaluates hands of 5 to 7 cards with one
+ * table read per card.
+ *
+ * <p>Each state of the machine is a partial hand of up to 6 cards, and has a
+ * row of 53 ints in the table: the value of the hand if it has 5 or 6 cards,
+ * followed by the state reached with each of the 52 cards. From a 6-card state
+ * the entry of the seventh card is the value of the 7-card hand itself, so
+ * evaluating 7 cards takes 7 dependent reads and no arithmetic:
+ *
+ * <pre>{@code
+ * SevenCardTable.generate(Path.of("states.bin")); // once
+ * var table = SevenCardTable.load(Path.of("states.bin"));
+ * int value = table.evaluate(CardSet.fromString("Ah Kh Qh Jh Th 2c 3d").mask());
+ * }</pre>
+ *
+ * <p>As in the two-plus-two evaluator, the suit of a card is forgotten as
+ * soon as its suit can no longer make a flush, which brings the number of
+ * states down to 612,977 and the table to 32,487,781 ints, about 130 MB.
+ * A table that size does not fit in the CPU caches, so the reads of unrelated
+ * hands mostly miss and {@link Evaluator} is faster for them. The table pays
+ * off when hands are walked with {@link #next(int, int)}, e.g. over all runouts
+ * of a flop, where consecutive hands share their states.
+ *
+ * <p>The table is {@link #load(Path) loaded} by mapping the file read-only,
+ * so it lives outside the Java heap, and several JVMs on the same host share
+ * the pages of the file in the page cache. The file starts with a 4-byte
+ * magic number, the number of states and the CRC-32 of the table, followed
+ * by the table as little-endian ints, the byte order of common hardware, so
+ * that reads need no byte swapping.
+ *
+ * <p>Like the primitive methods of {@link Evaluator}, the table does not detect
+ * every duplicate card; duplicates produce an undefined result.
+ *
+ * @see Evaluator#evaluate(long)
+ */
+public final class SevenCardTable {
+    /** The state of an empty hand, see {@link #next(int, int)}. */
+    public static final int START = 1;
+
+    private static final int MAGIC = 0x53435431; // "SCT1"
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int STATES = 612_977;
+    private static final int ROW_SIZE = Card.DECK_SIZE + 1;
+    private static final int MAX_SIZE = 7;
+
+    /** Number of states generated by each task. */
+    private static final int CHUNK_SIZE = 1 << 12;
+
+    private final IntBuffer table;
+
+    private SevenCardTable(IntBuffer table) {
+        this.table = table;
+    }
+
+    /**
+     * Maps a table written by {@link #generate(Path)}.
+     *
+     * <p>The checksum of the table is verified, which reads the whole file once.
+     *
+     * @param file the table file
+     * @return the loaded table
+     * @throws IOException if the file cannot be read or is not a valid table
+     */
+    public static SevenCardTable load(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != fileSize()) {
+                throw new IOException("Invalid state table file: " + file);
+            }
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                .order(ByteOrder.LITTLE_ENDIAN);
+            final var data = buffer.slice(HEADER_SIZE, buffer.capacity() - HEADER_SIZE);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != STATES
+                || buffer.getInt(2 * Integer.BYTES) != checksum(data.duplicate())) {
+                throw new IOException("Invalid state table file: " + file);
+            }
+            return new SevenCardTable(data.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer());
+        }
+    }
+
+    /**
+     * Generates the table and writes it to a file.
+     *
+     * <p>The table is written through a mapping of the file, so only the
+     * states themselves are kept on the heap while generating. Applications
+     * call this once, e.g. on first start when the file is missing, and
+     * {@link #load(Path) load} the file from then on.
+     *
+     * @param file the file to write, replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public static void generate(Path file) throws IOException {
+        final var levels = levels();
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final var mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize());
+            final var buffer = mapping.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            final var data = buffer.slice(HEADER_SIZE, buffer.capacity() - HEADER_SIZE);
+            final var table = data.duplicate().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+
+            final var offsets = new int[levels.length + 1];
+            for (var size = 0; size < levels.length; size++) {
+                offsets[size + 1] = offsets[size] + levels[size].length;
+            }
+            final var chunks = (STATES + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                final var end = Math.min(STATES, (chunk + 1) * CHUNK_SIZE);
+                for (var state = chunk * CHUNK_SIZE; state < end; state++) {
+                    fill(table, state, levels, offsets);
+                }
+            });
+
+            buffer.putInt(0, MAGIC).putInt(Integer.BYTES, STATES).putInt(2 * Integer.BYTES, checksum(data));
+            mapping.force();
+        }
+    }
+
+    /**
+     * Evaluates a hand of 5 to 7 cards given as a card mask.
+     *
+     * @param mask the card mask with 5 to 7 bits set
+     * @return the value of the best 5-card hand, between 1 (best) and 7462 (worst)
+     * @throws IllegalArgumentException if the mask does not contain 5 to 7 cards
+     */
+    public int evaluate(long mask) {
+        final int count = Long.bitCount(mask);
+        if (count < 5 || count > MAX_SIZE) {
+            throw new IllegalArgumentException("Between 5 and 7 cards are required.");
+        }
+        var state = START;
+        for (; mask != 0; mask &= mask - 1) {
+            state = table.get(state + Long.numberOfTrailingZeros(mask));
+        }
+        return count == MAX_SIZE ? state : table.get(state - 1);
+    }
+
+    /**
+     * Evaluates a 7-card hand given as deck indices.
+     *
+     * <p>The indices are neither range-checked nor checked for duplicates.
+     *
+     * @param c1 the deck index of the first card (see {@link Card#getIndex()})
+     * @param c2 the deck index of the second card
+     * @param c3 the deck index of the third card
+     * @param c4 the deck index of the fourth card
+     * @param c5 the deck index of the fifth card
+     * @param c6 the deck index of the sixth card
+     * @param c7 the deck index of the seventh card
+     * @return the value of the best 5-card hand, between 1 (best) and 7462 (worst)
+     */
+    public int evaluate(int c1, int c2, int c3, int c4, int c5, int c6, int c7) {
+        final var t = table;
+        return t.get(t.get(t.get(t.get(t.get(t.get(t.get(START + c1) + c2) + c3) + c4) + c5) + c6) + c7);
+    }
+
+    /**
+     * Returns the state reached by adding a card to a partial hand.
+     *
+     * <p>Starting from {@link #START}, this walks a hand street by street,
+     * so that the cards shared by several hands are only added once. Adding
+     * the seventh card returns the value of the hand instead of a state.
+     *
+     * @param state the state of a hand of up to 6 cards
+     * @param card the deck index of the card to add (see {@link Card#getIndex()})
+     * @return the state of the hand with the card, or its value if it has 7 cards
+     */
+    public int next(int state, int card) {
+        return table.get(state + card);
+    }
+
+    /**
+     * Returns the value of the hand of a state with 5 or 6 cards.
+     *
+     * @param state the state of a hand of 5 or 6 cards
+     * @return the value of the best 5-card hand, between 1 (best) and 7462 (worst)
+     */
+    public int value(int state) {
+        return table.get(state - 1);
+    }
+
+    private static long fileSize() {
+        return HEADER_SIZE + (long) STATES * ROW_SIZE * Integer.BYTES;
+    }
+
+    private static int checksum(ByteBuffer data) {
+        final var crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Returns the sorted keys of the states with each number of cards, from 0 to 6.
+     */
+    private static long[][] levels() {
+        final var levels = new long[MAX_SIZE][];
+        levels[0] = new long[] {0};
+        for (var size = 1; size < MAX_SIZE; size++) {
+            final var previous = levels[size - 1];
+            final var keys = new long[previous.length * Card.DECK_SIZE];
+            IntStream.range(0, previous.length).parallel().forEach(i -> {
+                for (var card = 0; card < Card.DECK_SIZE; card++) {
+                    keys[i * Card.DECK_SIZE + card] = add(previous[i], card);
+                }
+            });
+
+            // Sort and drop the duplicates, and the zeros of cards that could not be added
+            Arrays.parallelSort(keys);
+            var count = 0;
+            for (var key : keys) {
+                if (key != 0 && (count == 0 || key != keys[count - 1])) {
+                    keys[count++] = key;
+                }
+            }
+            levels[size] = Arrays.copyOf(keys, count);
+        }
+        return levels;
+    }
+
+    /**
+     * Writes the row of one state: its value, then the state or value reached with each card.
+     */
+    private static void fill(IntBuffer table, int state, long[][] levels, int[] offsets) {
+        var size = 0;
+        while (state >= offsets[size + 1]) {
+            size++;
+        }
+        final var key = levels[size][state - offsets[size]];
+        final var row = state * ROW_SIZE;
+
+        final var cards = new int[MAX_SIZE];
+        table.put(row, size >= 5 ? value(key) : 0);
+        for (var card = 0; card < Card.DECK_SIZE; card++) {
+            final int entry;
+            if (size == MAX_SIZE - 1) {
+                final var count = decode(key, cards);
+                entry = append(cards, count, card) ? value(cards, count + 1) : 0;
+            } else {
+                final var next = add(key, card);
+                final var index = Arrays.binarySearch(levels[size + 1], next);
+                entry = next == 0 ? 0 : (offsets[size + 1] + index) * ROW_SIZE + 1;
+            }
+            table.put(row + 1 + card, entry);
+        }
+    }
+
+    /**
+     * Returns the key of a state with one more card, or 0 if the card cannot be added.
+     *
+     * <p>A key packs the cards of a hand into one byte each, in descending
+     * order, with the rank plus one in the high 4 bits and the suit plus one in
+     * the low 4 bits. The suit is cleared once fewer cards of that suit are held
+     * than needed for a flush, so that hands differing only there share a state.
+     */
+    static long add(long key, int card) {
+        final var cards = new int[MAX_SIZE];
+        final var count = decode(key, cards);
+        if (!append(cards, count, card)) {
+            return 0;
+        }
+
+        // With n cards, a suit of fewer than n - 2 cards can no longer reach 5 of 7
+        final var needed = count + 1 - 2;
+        if (needed > 1) {
+            final var suits = new int[5];
+            for (var i = 0; i <= count; i++) {
+                suits[cards[i] & 0xF]++;
+            }
+            for (var i = 0; i <= count; i++) {
+                if (suits[cards[i] & 0xF] < needed) {
+                    cards[i] &= 0xF0;
+                }
+            }
+        }
+
+        Arrays.sort(cards, 0, count + 1);
+        var result = 0L;
+        for (var i = 0; i <= count; i++) {
+            result = result << 8 | cards[i];
+        }
+        return result;
+    }
+
+    /**
+     * Unpacks the cards of a key, returning their number.
+     */
+    private static int decode(long key, int[] cards) {
+        var count = 0;
+        for (; key != 0; key >>>= 8) {
+            cards[count++] = (int) (key & 0xFF);
+        }
+        return count;
+    }
+
+    /**
+     * Appends a card to the cards of a key, unless it is already there or would be a fifth of its rank.
+     */
+    private static boolean append(int[] cards, int count, int card) {
+        final var encoded = (card % 13 + 1) << 4 | (card / 13 + 1);
+        var sameRank = 0;
+        for (var i = 0; i < count; i++) {
+            if (cards[i] == encoded) {
+                return false;
+            }
+            if ((cards[i] & 0xF0) == (encoded & 0xF0)) {
+                sameRank++;
+            }
+        }
+        cards[count] = encoded;
+        return sameRank < 4;
+    }
+
+    /**
+     * Returns the value of the best 5-card hand of a key of 5 to 7 cards.
+     */
+    static int value(long key) {
+        final var cards = new int[MAX_SIZE];
+        return value(cards, decode(key, cards));
+    }
+
+    /**
+     * Returns the value of the best 5-card hand of 5 to 7 cards of a key.
+     */
+    private static int value(int[] cards, int count) {
+        final var suitRanks = new int[5];
+        for (var i = 0; i < count; i++) {
+            suitRanks[cards[i] & 0xF] |= 1 << ((cards[i] >>> 4) - 1);
+        }
+        for (var suit = 1; suit < suitRanks.length; suit++) {
+            if (Integer.bitCount(suitRanks[suit]) >= 5) {
+                return BestHandTables.Flushes.TABLE[suitRanks[suit]];
+            }
+        }
+
+        // No flush: give each copy of a rank its own suit, which only matters for counting the ranks
+        var mask = 0L;
+        var product = 1;
+        for (var i = 0; i < count; i++) {
+            final var rank = (cards[i] >>> 4) - 1;
+            var bit = 1L << rank;
+            while ((mask & bit) != 0) {
+                bit <<= 13;
+            }
+            mask |= bit;
+            product *= Tables.PRIMES[rank];
+        }
+        return Evaluator.evaluate(mask, 0, product);
+    }
+}
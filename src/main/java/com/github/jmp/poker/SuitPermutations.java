@@ -0,0 +1,70 @@
+package com.github.jmp.poker;
+
+/**
+ * The 24 permutations of the four suits, applied to deck indexes and card masks.
+ *
+ * <p>Hands and boards that only differ by a permutation of the suits have the
+ * same strength, which lets tables be computed for one representative only.
+ */
+final class SuitPermutations {
+    /** All permutations; {@code ALL[p][suit]} is the suit that {@code suit} maps to. */
+    static final int[][] ALL = new int[24][];
+
+    private static final int SUITS = 4;
+    private static final int RANKS = 13;
+
+    static {
+        var count = 0;
+        for (var a = 0; a < SUITS; a++) {
+            for (var b = 0; b < SUITS; b++) {
+                for (var c = 0; c < SUITS; c++) {
+                    final var d = 6 - a - b - c;
+                    if (a != b && a != c && b != c && d != a && d != b && d != c) {
+                        ALL[count++] = new int[] {a, b, c, d};
+                    }
+                }
+            }
+        }
+    }
+
+    private SuitPermutations() {
+    }
+
+    /**
+     * Returns the deck index of a card with its suit permuted.
+     *
+     * @param card the deck index of the card
+     * @param permutation the suit permutation
+     * @return the deck index of the permuted card
+     */
+    static int card(int card, int[] permutation) {
+        return permutation[card / RANKS] * RANKS + card % RANKS;
+    }
+
+    /**
+     * Returns a card mask with the suits of all cards permuted.
+     *
+     * @param mask the card mask, one bit per deck index
+     * @param permutation the suit permutation
+     * @return the permuted card mask
+     */
+    static long mask(long mask, int[] permutation) {
+        // Deck indexes are grouped by suit, so each suit moves as a block of 13 bits
+        var result = 0L;
+        for (var suit = 0; suit < SUITS; suit++) {
+            result |= ((mask >>> (suit * RANKS)) & 0x1FFF) << (permutation[suit] * RANKS);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the combo index of a combo with its suits permuted.
+     *
+     * @param combo the combo index
+     * @param permutation the suit permutation
+     * @return the combo index of the permuted combo
+     */
+    static int combo(int combo, int[] permutation) {
+        return Range.index(card(Range.LOW[combo], permutation), card(Range.HIGH[combo], permutation));
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.jmp.poker;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Batch evaluation of 5-card hands with the Vector API.
+ *
+ * <p>Evaluates one hand per vector lane: the rank bits, common suit bits,
+ * prime products and the Senzee hash are computed for all lanes at once.
+ * The table lookups are then done lane by lane from the computed indexes.
+ *
+ * <p>The lookups would ideally be vector gathers, but gathers crash C2 on
+ * AVX-512 hosts with JDK 21.0.1, so they are left to scalar loads.
+ *
+ * <p>This class uses the incubating {@code jdk.incubator.vector} module and
+ * must only be loaded when the module is present, which {@link Evaluator}
+ * checks before calling it.
+ *
+ * @see Evaluator#evaluateAllVectorized(int[], short[])
+ */
+final class VectorEvaluator {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    /** Scratch arrays of each thread, reused across calls. */
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private VectorEvaluator() {
+    }
+
+    /**
+     * Evaluates the hands {@code from} (inclusive) to {@code to} (exclusive).
+     *
+     * @param cards the card values, 5 per hand
+     * @param results the array receiving the value of each hand
+     * @param from the index of the first hand
+     * @param to the index after the last hand
+     */
+    static void evaluateRange(int[] cards, short[] results, int from, int to) {
+        final int lanes = SPECIES.length();
+        final var scratch = SCRATCH.get();
+        final var columns = scratch.columns;
+        final var indexes = scratch.indexes;
+        final var suits = scratch.suits;
+        final var hashes = scratch.hashes;
+
+        var i = from;
+        for (; i + lanes <= to; i += lanes) {
+            // Transpose the hands so that each card is a contiguous column
+            for (int lane = 0, offset = i * 5; lane < lanes; lane++, offset += 5) {
+                columns[lane] = cards[offset];
+                columns[lanes + lane] = cards[offset + 1];
+                columns[2 * lanes + lane] = cards[offset + 2];
+                columns[3 * lanes + lane] = cards[offset + 3];
+                columns[4 * lanes + lane] = cards[offset + 4];
+            }
+            final var c1 = IntVector.fromArray(SPECIES, columns, 0);
+            final var c2 = IntVector.fromArray(SPECIES, columns, lanes);
+            final var c3 = IntVector.fromArray(SPECIES, columns, 2 * lanes);
+            final var c4 = IntVector.fromArray(SPECIES, columns, 3 * lanes);
+            final var c5 = IntVector.fromArray(SPECIES, columns, 4 * lanes);
+
+            // Index in the flushes/unique table, and the common suit bits
+            c1.or(c2).or(c3).or(c4).or(c5).lanewise(VectorOperators.LSHR, 16).intoArray(indexes, 0);
+            c1.and(c2).and(c3).and(c4).and(c5).and(0xF000).intoArray(suits, 0);
+
+            // Prime product of the ranks, mixed as in Evaluator.hash up to Evaluator.adjust
+            var key = c1.and(0xFF).mul(c2.and(0xFF)).mul(c3.and(0xFF)).mul(c4.and(0xFF)).mul(c5.and(0xFF));
+            key = key.add(0xE91AAA35);
+            key = key.lanewise(VectorOperators.XOR, key.lanewise(VectorOperators.LSHR, 16));
+            key = key.add(key.lanewise(VectorOperators.LSHL, 8));
+            key = key.lanewise(VectorOperators.XOR, key.lanewise(VectorOperators.LSHR, 4));
+            key.intoArray(hashes, 0);
+
+            for (var lane = 0; lane < lanes; lane++) {
+                results[i + lane] = lookup(indexes[lane], suits[lane], hashes[lane]);
+            }
+        }
+
+        for (var offset = i * 5; i < to; i++, offset += 5) {
+            results[i] = (short) Evaluator.evaluate(
+                cards[offset], cards[offset + 1], cards[offset + 2], cards[offset + 3], cards[offset + 4]
+            );
+        }
+    }
+
+    private static short lookup(int index, int suit, int key) {
+        // Flushes, including straight flushes
+        if (suit != 0) {
+            return Tables.Flushes.TABLE[index];
+        }
+
+        // Straight and high card hands
+        final short value = Tables.Unique.TABLE[index];
+        if (value != 0) {
+            return value;
+        }
+
+        // Remaining cards
+        return Tables.Hash.Values.TABLE[Evaluator.adjust(key)];
+    }
+
+    /**
+     * The transposed cards and the per-lane results of one vector of hands.
+     */
+    private static final class Scratch {
+        final int[] columns = new int[SPECIES.length() * 5];
+        final int[] indexes = new int[SPECIES.length()];
+        final int[] suits = new int[SPECIES.length()];
+        final int[] hashes = new int[SPECIES.length()];
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CanonicalHandTest {
+    @Test
+    void testIsomorphicHands() {
+        final var canonical = CanonicalHand.of(CardSet.fromString("As Ks"), CardSet.fromString("Qs 7s 2d"));
+        assertEquals(canonical, CanonicalHand.of(CardSet.fromString("Ah Kh"), CardSet.fromString("Qh 7h 2c")));
+        assertEquals(canonical.index(),
+            CanonicalHand.of(CardSet.fromString("Ah Kh"), CardSet.fromString("Qh 7h 2c")).index());
+        assertEquals(CardSet.fromString("Ac Kc"), canonical.hole());
+        assertEquals(CardSet.fromString("Qc 7c 2d"), canonical.board());
+        assertEquals(12, canonical.multiplicity());
+
+        assertNotEquals(canonical, CanonicalHand.of(CardSet.fromString("Ah Kc"), CardSet.fromString("Qh 7h 2c")));
+        assertNotEquals(canonical, CanonicalHand.of(CardSet.fromString("Qs 7s 2d"), CardSet.fromString("As Ks")));
+    }
+
+    @Test
+    void testMap() {
+        final var hole = CardSet.fromString("Ah Kd");
+        final var board = CardSet.fromString("Qh 7s 2c Jd");
+        final var canonical = CanonicalHand.of(hole, board);
+        assertEquals(canonical.hole(), canonical.map(hole));
+        assertEquals(canonical.board(), canonical.map(board));
+        assertEquals(canonical, CanonicalHand.of(canonical.hole(), canonical.board()));
+    }
+
+    @Test
+    void testMultiplicity() {
+        // Each class of starting hands holds as many combos as its multiplicity
+        final var holes = new HashMap<CanonicalHand, Integer>();
+        for (var combo = 0; combo < Range.COMBOS; combo++) {
+            holes.merge(CanonicalHand.of(Range.cards(combo), CardSet.EMPTY), 1, Integer::sum);
+        }
+        assertEquals(169, holes.size());
+        holes.forEach((canonical, count) -> assertEquals(count, canonical.multiplicity()));
+
+        // Same for flops
+        final var flops = new HashMap<CanonicalHand, Integer>();
+        final var cards = Combinations.first(3);
+        do {
+            final var flop = new CardSet(1L << cards[0] | 1L << cards[1] | 1L << cards[2]);
+            flops.merge(CanonicalHand.of(CardSet.EMPTY, flop), 1, Integer::sum);
+        } while (Combinations.next(cards));
+        assertEquals(1755, flops.size());
+        flops.forEach((canonical, count) -> assertEquals(count, canonical.multiplicity()));
+    }
+
+    @Test
+    void testIllegalCards() {
+        assertThrows(IllegalArgumentException.class, () ->
+            CanonicalHand.of(CardSet.fromString("Ah Kh"), CardSet.fromString("Ah 7h 2c")));
+        assertThrows(IllegalArgumentException.class, () ->
+            CanonicalHand.of(CardSet.EMPTY, CardSet.fromString("Ah Kh Qh Jh Th 9h 8h 7h")));
+    }
+}
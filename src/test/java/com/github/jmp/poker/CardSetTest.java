@@ -0,0 +1,108 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CardSetTest {
+    @Test
+    void testInvalidMask() {
+        assertThrows(IllegalArgumentException.class, () -> new CardSet(1L << 52));
+        assertThrows(IllegalArgumentException.class, () -> new CardSet(-1L));
+    }
+
+    @Test
+    void testFullDeck() {
+        assertEquals(52, CardSet.FULL_DECK.size());
+        assertEquals(CardSet.EMPTY, CardSet.FULL_DECK.complement());
+        assertTrue(CardSet.EMPTY.isEmpty());
+    }
+
+    @Test
+    void testAddRemoveContains() {
+        final var king = Card.of(Rank.KING, Suit.HEARTS);
+        final var set = CardSet.EMPTY.add(king);
+
+        assertTrue(set.contains(king));
+        assertFalse(set.contains(Card.of(Rank.KING, Suit.SPADES)));
+        assertEquals(1, set.size());
+        assertEquals(set, set.add(king));
+        assertEquals(CardSet.EMPTY, set.remove(king));
+    }
+
+    @Test
+    void testSetOperations() {
+        final var a = CardSet.fromString("Ah Kh Qh");
+        final var b = CardSet.fromString("Kh Qh Jh");
+
+        assertEquals(CardSet.fromString("Ah Kh Qh Jh"), a.union(b));
+        assertEquals(CardSet.fromString("Kh Qh"), a.intersect(b));
+        assertEquals(CardSet.fromString("Ah"), a.minus(b));
+        assertTrue(a.intersects(b));
+        assertFalse(a.intersects(CardSet.fromString("Jh")));
+        assertTrue(a.union(b).containsAll(a));
+        assertFalse(a.containsAll(b));
+        assertEquals(49, a.complement().size());
+    }
+
+    @Test
+    void testIteration() {
+        final var set = CardSet.fromString("Ah 2c Kd");
+        assertArrayEquals(
+            new Card[]{Card.fromString("2c"), Card.fromString("Kd"), Card.fromString("Ah")},
+            set.toArray()
+        );
+
+        var count = 0;
+        for (var card : CardSet.FULL_DECK) {
+            assertEquals(count++, card.getIndex());
+        }
+        assertEquals(52, count);
+    }
+
+    @Test
+    void testFromString() {
+        assertEquals(CardSet.EMPTY, CardSet.fromString(""));
+        assertEquals("2c Kd Ah", CardSet.fromString("Ah 2c Kd").toString());
+        assertThrows(IllegalArgumentException.class, () -> CardSet.fromString("Ah Ah"));
+        assertThrows(IllegalArgumentException.class, () -> CardSet.fromString("Ah 1c"));
+    }
+
+    @Test
+    void testHandConversion() {
+        final var hand = Hand.fromString("Kc Qc Jc Tc Ac");
+        final var set = CardSet.of(hand);
+
+        assertEquals(5, set.size());
+        assertEquals(CardSet.of(hand.cards()), CardSet.of(set.toHand()));
+        assertThrows(IllegalArgumentException.class, () -> set.remove(Card.fromString("Ac")).toHand());
+    }
+
+    @Test
+    void testEvaluate() {
+        final var hand = Hand.fromString("7h 5c 4d 3s 2h");
+        assertEquals(hand.evaluate(), CardSet.of(hand).evaluate());
+        assertEquals(1, CardSet.fromString("Kc Qc Jc Tc Ac 2d 3d").evaluate());
+        assertThrows(IllegalArgumentException.class, () -> CardSet.fromString("Kc Qc").evaluate());
+    }
+
+    @Test
+    void testIndex() {
+        assertEquals(0, CardSet.EMPTY.index());
+        assertEquals(CardSet.EMPTY, CardSet.fromIndex(0, 0));
+        assertEquals(CardSet.fromString("2c 3c 4c 5c 6c"), CardSet.fromIndex(0, 5));
+
+        final var hand = CardSet.fromString("Kc Qc Jc Tc Ac 2d 3d");
+        assertEquals(hand, CardSet.fromIndex(hand.index(), 7));
+        assertEquals(2598959, CardSet.fromString("Js Qs Ks As Ts").index());
+
+        assertThrows(IllegalArgumentException.class, () -> CardSet.fromString("Kc Qc Jc Tc Ac 2d 3d 4d").index());
+        assertThrows(IllegalArgumentException.class, () -> CardSet.fromIndex(2598960, 5));
+        assertThrows(IllegalArgumentException.class, () -> CardSet.fromIndex(0, 8));
+        assertThrows(IllegalArgumentException.class, () -> CardSet.fromIndex(-1, 2));
+    }
+}
@@ -3,6 +3,7 @@ package com.github.jmp.poker;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class CardTest {
@@ -77,6 +78,43 @@ class CardTest {
         assertThrows(IllegalArgumentException.class, () -> Card.fromString("Kd Qs"));
     }
 
+    @Test
+    void testOf() {
+        final Card kingOfDiamonds = Card.of(Rank.KING, Suit.DIAMONDS);
+        assertEquals(Rank.KING, kingOfDiamonds.getRank());
+        assertEquals(Suit.DIAMONDS, kingOfDiamonds.getSuit());
+        assertSame(kingOfDiamonds, Card.of(Rank.KING, Suit.DIAMONDS));
+    }
+
+    @Test
+    void testOfIndex() {
+        for (var i = 0; i < Card.DECK_SIZE; i++) {
+            final var card = Card.of(i);
+            assertEquals(i, card.getIndex());
+            assertSame(card, Card.of(card.getRank(), card.getSuit()));
+            assertEquals(new Card(card.getRank(), card.getSuit()).getValue(), card.getValue());
+        }
+    }
+
+    @Test
+    void testOfIndexInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> Card.of(-1));
+        assertThrows(IllegalArgumentException.class, () -> Card.of(52));
+    }
+
+    @Test
+    void testFromStringShared() {
+        assertSame(Card.of(Rank.KING, Suit.DIAMONDS), Card.fromString("Kd"));
+        assertSame(Card.fromString("2c"), Card.fromString("2c"));
+    }
+
+    @Test
+    void testGetIndex() {
+        assertEquals(0, new Card(Rank.TWO, Suit.CLUBS).getIndex());
+        assertEquals(25, new Card(Rank.ACE, Suit.DIAMONDS).getIndex());
+        assertEquals(51, new Card(Rank.ACE, Suit.SPADES).getIndex());
+    }
+
     @Test
     void testToString() {
         assertEquals("Kd", new Card(Rank.KING, Suit.DIAMONDS).toString());
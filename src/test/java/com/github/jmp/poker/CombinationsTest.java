@@ -0,0 +1,57 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class CombinationsTest {
+    @Test
+    void testCount() {
+        assertEquals(52, Combinations.count(52, 1));
+        assertEquals(2598960, Combinations.count(52, 5));
+        assertEquals(20358520, Combinations.count(52, 6));
+        assertEquals(133784560, Combinations.count(52, 7));
+    }
+
+    @Test
+    void testFirst() {
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, Combinations.first(5));
+    }
+
+    @Test
+    void testNextIsLast() {
+        assertFalse(Combinations.next(new int[]{47, 48, 49, 50, 51}));
+    }
+
+    @Test
+    void testEnumerateAllHands() {
+        final var cards = Combinations.first(5);
+        final var unindexed = new int[5];
+
+        var count = 0;
+        do {
+            assertEquals(count, Combinations.index(cards));
+            Combinations.unindex(count, unindexed);
+            assertArrayEquals(cards, unindexed);
+            final var mask = 1L << cards[0] | 1L << cards[1] | 1L << cards[2] | 1L << cards[3] | 1L << cards[4];
+            assertEquals(count, Combinations.index(mask));
+            assertEquals(mask, Combinations.mask(count, 5));
+            ++count;
+        } while (Combinations.next(cards));
+
+        assertEquals(2598960, count);
+    }
+
+    @Test
+    void testSevenCardMasks() {
+        assertEquals(0, Combinations.index(0b1111111L));
+        assertEquals(133784559, Combinations.index(0b1111111L << 45));
+        for (var index = 0; index < 133784560; index += 9973) {
+            final var mask = Combinations.mask(index, 7);
+            assertEquals(7, Long.bitCount(mask));
+            assertEquals(index, Combinations.index(mask));
+        }
+    }
+}
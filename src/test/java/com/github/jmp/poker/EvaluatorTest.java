@@ -0,0 +1,350 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EvaluatorTest {
+    @Test
+    void testEvaluateRoyalFlush() {
+        final var hand = Hand.fromString("Kc Qc Jc Tc Ac");
+        assertEquals(1, evaluate(hand));
+    }
+
+    @Test
+    void testEvaluateSevenHigh() {
+        final var hand = Hand.fromString("7h 5c 4d 3s 2h");
+        assertEquals(7462, evaluate(hand));
+    }
+
+    @Test
+    void testEvaluateMask() {
+        final var hand = Hand.fromString("2h 2d 3c 4c 5c");
+        var mask = 0L;
+        for (var card : hand.cards()) {
+            mask |= Evaluator.mask(card.getValue());
+        }
+        assertEquals(6185, Evaluator.evaluate(mask));
+    }
+
+    @Test
+    void testEvaluateMaskWrongSize() {
+        assertThrows(IllegalArgumentException.class, () -> Evaluator.evaluate(0b1111L));
+        assertThrows(IllegalArgumentException.class, () -> Evaluator.evaluate(0b11111111L));
+    }
+
+    @Test
+    void testMask() {
+        assertEquals(1L, Evaluator.mask(new Card(Rank.TWO, Suit.CLUBS).getValue()));
+        assertEquals(1L << 25, Evaluator.mask(new Card(Rank.ACE, Suit.DIAMONDS).getValue()));
+        assertEquals(1L << 51, Evaluator.mask(new Card(Rank.ACE, Suit.SPADES).getValue()));
+    }
+
+    @Test
+    void testHasDuplicates() {
+        final var king = new Card(Rank.KING, Suit.HEARTS).getValue();
+        final var jack = new Card(Rank.JACK, Suit.DIAMONDS).getValue();
+        final var ten = new Card(Rank.TEN, Suit.SPADES).getValue();
+        final var ace = new Card(Rank.ACE, Suit.HEARTS).getValue();
+        final var otherKing = new Card(Rank.KING, Suit.SPADES).getValue();
+
+        assertTrue(Evaluator.hasDuplicates(king, king, jack, ten, ace));
+        assertTrue(Evaluator.hasDuplicates(king, jack, ten, ace, ace));
+        assertFalse(Evaluator.hasDuplicates(king, jack, ten, ace, otherKing));
+    }
+
+    @Test
+    void testEvaluateAllHands() {
+        final var cards = Combinations.first(5);
+        do {
+            final var hand = new Hand(
+                card(cards[0]), card(cards[1]), card(cards[2]), card(cards[3]), card(cards[4])
+            );
+            final var mask = (1L << cards[0]) | (1L << cards[1]) | (1L << cards[2]) | (1L << cards[3]) | (1L << cards[4]);
+
+            assertEquals(hand.evaluate(), evaluate(hand));
+            assertEquals(hand.evaluate(), Evaluator.evaluate(mask));
+            assertEquals(hand.evaluate(), Evaluator.evaluateIndex(Combinations.index(cards)));
+        } while (Combinations.next(cards));
+    }
+
+    @Test
+    void testEvaluateIndex() {
+        final var royalFlush = CardSet.fromString("Ah Kh Qh Jh Th");
+        assertEquals(1, Evaluator.evaluateIndex(royalFlush.index()));
+        assertEquals(7462, Evaluator.evaluateIndex(CardSet.fromString("7h 5c 4d 3s 2h").index()));
+        assertEquals(Evaluator.evaluate(Combinations.mask(0, 5)), Evaluator.evaluateIndex(0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Evaluator.evaluateIndex(2598960));
+    }
+
+    @Test
+    void testEvaluateAllBatch() {
+        final var cards = allHands();
+        final var expected = expected(cards);
+
+        final var results = new short[expected.length];
+        Evaluator.evaluateAll(cards, results);
+        assertArrayEquals(expected, results);
+
+        final var parallel = new short[expected.length];
+        Evaluator.evaluateAllParallel(cards, parallel);
+        assertArrayEquals(expected, parallel);
+
+        final var buffer = new short[3];
+        Evaluator.evaluateAll(IntBuffer.wrap(cards, 10, 15), buffer);
+        assertArrayEquals(new short[]{expected[2], expected[3], expected[4]}, buffer);
+    }
+
+    @Test
+    void testIsVectorized() {
+        // Set by the surefire execution that adds the incubating module
+        assertEquals(Boolean.getBoolean("poker.vectorized"), Evaluator.isVectorized());
+    }
+
+    @Test
+    void testEvaluateAllVectorized() {
+        final var cards = allHands();
+        final var expected = expected(cards);
+        final var results = new short[expected.length];
+        Evaluator.evaluateAllVectorized(cards, results);
+        assertArrayEquals(expected, results);
+    }
+
+    @Test
+    void testEvaluateAllVectorizedTail() {
+        // Fewer hands than vector lanes, and a partial last vector
+        for (var count = 0; count < 40; count++) {
+            final var cards = new int[count * 5];
+            final var expected = new short[count];
+            for (var i = 0; i < count; i++) {
+                for (var j = 0; j < 5; j++) {
+                    cards[i * 5 + j] = Tables.DECK[(i + j * 7) % 52];
+                }
+                expected[i] = (short) Evaluator.evaluate(cards[i * 5], cards[i * 5 + 1], cards[i * 5 + 2],
+                    cards[i * 5 + 3], cards[i * 5 + 4]);
+            }
+
+            final var results = new short[count];
+            Evaluator.evaluateAllVectorized(cards, results);
+            assertArrayEquals(expected, results);
+        }
+    }
+
+    @Test
+    void testEvaluateAllBatchInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> Evaluator.evaluateAll(new int[6], new short[2]));
+        assertThrows(IllegalArgumentException.class, () -> Evaluator.evaluateAll(new int[10], new short[1]));
+        assertThrows(IllegalArgumentException.class, () -> Evaluator.evaluateAllParallel(new int[4], new short[1]));
+    }
+
+    @Test
+    void testEvaluateSixCards() {
+        assertEquals(1, evaluate(card("Ah"), card("Kh"), card("7c"), card("Qh"), card("Jh"), card("Th")));
+        assertEquals(Hand.fromString("7c 7d 7s Kh Kd").evaluate(),
+            evaluate(card("7c"), card("Kh"), card("7d"), card("7s"), card("Kd"), card("2c")));
+    }
+
+    @Test
+    void testEvaluateSixCardMask() {
+        var mask = 0L;
+        for (var card : Hand.fromString("Ah Ad 7c 7d 2s").cards()) {
+            mask |= Evaluator.mask(card.getValue());
+        }
+        mask |= Evaluator.mask(card("7h").getValue());
+        assertEquals(Hand.fromString("7c 7d 7h Ah Ad").evaluate(), Evaluator.evaluate(mask));
+    }
+
+    @Test
+    void testEvaluateAllSixCardHands() {
+        final var deck = Tables.DECK;
+        final var v = new int[6];
+
+        var count = 0;
+        for (var a = 0; a < 52; a++) {
+            v[0] = deck[a];
+            for (var b = a + 1; b < 52; b++) {
+                v[1] = deck[b];
+                for (var c = b + 1; c < 52; c++) {
+                    v[2] = deck[c];
+                    for (var d = c + 1; d < 52; d++) {
+                        v[3] = deck[d];
+                        for (var e = d + 1; e < 52; e++) {
+                            v[4] = deck[e];
+                            final var best5 = Evaluator.evaluate(v[0], v[1], v[2], v[3], v[4]);
+                            for (var f = e + 1; f < 52; f++) {
+                                v[5] = deck[f];
+                                final var best6 = Math.min(best5, bestWith(v, 5));
+                                assertEquals(best6, Evaluator.evaluate(v[0], v[1], v[2], v[3], v[4], v[5]));
+                                ++count;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        assertEquals(20358520, count);
+    }
+
+    @Test
+    void testEvaluateSevenCards() {
+        assertEquals(1, evaluate(card("Ah"), card("Kh"), card("7c"), card("7d"), card("Qh"), card("Jh"), card("Th")));
+        assertEquals(2, evaluate(card("9h"), card("Kh"), card("7c"), card("7d"), card("Qh"), card("Jh"), card("Th")));
+        assertEquals(Hand.fromString("Kh Kd Ks 7c 7d").evaluate(),
+            evaluate(card("7c"), card("Kh"), card("7d"), card("7s"), card("Kd"), card("Ks"), card("2c")));
+    }
+
+    @Test
+    void testEvaluateSevenCardMask() {
+        final var hand = Hand.fromString("Ah Ad 7c 7d 2s");
+        var mask = Evaluator.mask(card("7h").getValue()) | Evaluator.mask(card("7s").getValue());
+        for (var card : hand.cards()) {
+            mask |= Evaluator.mask(card.getValue());
+        }
+        assertEquals(Hand.fromString("7c 7d 7h 7s Ah").evaluate(), Evaluator.evaluate(mask));
+    }
+
+    @Test
+    void testEvaluateTotals() {
+        for (var size = 5; size <= 7; size++) {
+            final var cards = new int[size];
+            for (var index = 0; index < Combinations.count(52, size); index += 1009) {
+                Combinations.unindex(index, cards);
+                assertEquals(Evaluator.evaluate(mask(cards)), evaluateTotals(cards));
+            }
+        }
+    }
+
+    @Test
+    void testEvaluateAllSevenCardHands() {
+        final var deck = Tables.DECK;
+        final var v = new int[7];
+
+        // Best of the 21 5-card subsets. The subsets without the sixth or
+        // seventh card are evaluated in the outer loops.
+        var count = 0;
+        for (var a = 0; a < 52; a++) {
+            v[0] = deck[a];
+            for (var b = a + 1; b < 52; b++) {
+                v[1] = deck[b];
+                for (var c = b + 1; c < 52; c++) {
+                    v[2] = deck[c];
+                    for (var d = c + 1; d < 52; d++) {
+                        v[3] = deck[d];
+                        for (var e = d + 1; e < 52; e++) {
+                            v[4] = deck[e];
+                            final var best5 = Evaluator.evaluate(v[0], v[1], v[2], v[3], v[4]);
+                            for (var f = e + 1; f < 52; f++) {
+                                v[5] = deck[f];
+                                final var best6 = Math.min(best5, bestWith(v, 5));
+                                for (var g = f + 1; g < 52; g++) {
+                                    v[6] = deck[g];
+                                    final var best7 = Math.min(best6, bestWith(v, 6));
+                                    assertEquals(best7, Evaluator.evaluate(v[0], v[1], v[2], v[3], v[4], v[5], v[6]));
+                                    ++count;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        assertEquals(133784560, count);
+    }
+
+    private static long mask(int[] cards) {
+        var mask = 0L;
+        for (var card : cards) {
+            mask |= 1L << card;
+        }
+        return mask;
+    }
+
+    private static int evaluateTotals(int[] cards) {
+        var suits = 0;
+        var product = 1;
+        for (var card : cards) {
+            final var value = Tables.DECK[card];
+            suits += Evaluator.suit(value);
+            product *= value & 0xFF;
+        }
+        return Evaluator.evaluate(mask(cards), suits, product);
+    }
+
+    /**
+     * Returns the best 5-card hand made of card {@code last} and four of the cards before it.
+     */
+    private static int bestWith(int[] v, int last) {
+        var best = Integer.MAX_VALUE;
+        for (var i = 0; i < last; i++) {
+            for (var j = i + 1; j < last; j++) {
+                for (var k = j + 1; k < last; k++) {
+                    for (var l = k + 1; l < last; l++) {
+                        best = Math.min(best, Evaluator.evaluate(v[i], v[j], v[k], v[l], v[last]));
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private static Card card(String string) {
+        return Card.fromString(string);
+    }
+
+    private static Card card(int index) {
+        return Card.of(index);
+    }
+
+    private static int evaluate(Card... cards) {
+        if (cards.length == 6) {
+            return Evaluator.evaluate(
+                cards[0].getValue(), cards[1].getValue(), cards[2].getValue(), cards[3].getValue(),
+                cards[4].getValue(), cards[5].getValue()
+            );
+        }
+        return Evaluator.evaluate(
+            cards[0].getValue(), cards[1].getValue(), cards[2].getValue(), cards[3].getValue(),
+            cards[4].getValue(), cards[5].getValue(), cards[6].getValue()
+        );
+    }
+
+    private static int evaluate(Hand hand) {
+        final var cards = hand.cards();
+        return Evaluator.evaluate(
+            cards[0].getValue(), cards[1].getValue(), cards[2].getValue(), cards[3].getValue(), cards[4].getValue()
+        );
+    }
+
+    /**
+     * Returns the card values of every 5-card hand, in colex order.
+     */
+    private static int[] allHands() {
+        final var cards = new int[Combinations.count(52, 5) * 5];
+        final var combination = Combinations.first(5);
+        var count = 0;
+        do {
+            for (var i = 0; i < 5; i++) {
+                cards[count * 5 + i] = Tables.DECK[combination[i]];
+            }
+            ++count;
+        } while (Combinations.next(combination));
+        return cards;
+    }
+
+    private static short[] expected(int[] cards) {
+        final var expected = new short[cards.length / 5];
+        for (var i = 0; i < expected.length; i++) {
+            expected[i] = (short) Evaluator.evaluate(cards[i * 5], cards[i * 5 + 1], cards[i * 5 + 2],
+                cards[i * 5 + 3], cards[i * 5 + 4]);
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FlopsTest {
+    @Test
+    void testCatalogue() {
+        // Every flop maps to a canonical flop, which is counted as many times as its weight
+        final var counts = new int[Flops.COUNT];
+        final var cards = Combinations.first(3);
+        do {
+            final var flop = new CardSet(1L << cards[0] | 1L << cards[1] | 1L << cards[2]);
+            final var index = Flops.indexOf(flop);
+            assertEquals(CanonicalHand.of(CardSet.EMPTY, flop).board(), Flops.flop(index));
+            counts[index]++;
+        } while (Combinations.next(cards));
+
+        for (var i = 0; i < Flops.COUNT; i++) {
+            assertEquals(counts[i], Flops.weight(i));
+            assertEquals(i, Flops.indexOf(Flops.flop(i)));
+        }
+    }
+
+    @Test
+    void testFeatures() {
+        final var royal = Flops.indexOf(CardSet.fromString("Ah Kh Qh"));
+        assertEquals(3, Flops.distinctRanks(royal));
+        assertEquals(1, Flops.distinctSuits(royal));
+        assertEquals(1, Flops.straights(royal));
+        assertEquals(1, Flops.nuts(royal));
+        assertEquals(4, Flops.weight(royal));
+
+        final var paired = Flops.indexOf(CardSet.fromString("7c 7d 2h"));
+        assertEquals(2, Flops.distinctRanks(paired));
+        assertEquals(3, Flops.distinctSuits(paired));
+        assertEquals(0, Flops.straights(paired));
+        assertEquals(CardSet.fromString("7c 7d 7h 7s 2h").evaluate(), Flops.nuts(paired));
+
+        // 6-5, T-6 and J-T make a straight
+        final var connected = Flops.indexOf(CardSet.fromString("9c 8d 7d"));
+        assertEquals(2, Flops.distinctSuits(connected));
+        assertEquals(3, Flops.straights(connected));
+        // Only two cards of a suit, so the nuts are the jack-high straight
+        assertEquals(CardSet.fromString("Jc Tc 9c 8d 7d").evaluate(), Flops.nuts(connected));
+
+        final var wheel = Flops.indexOf(CardSet.fromString("Ac 2d 3h"));
+        assertEquals(1, Flops.straights(wheel));
+        assertEquals(1, Flops.distinctRanks(Flops.indexOf(CardSet.fromString("Ac Ad Ah"))));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> Flops.flop(Flops.COUNT));
+        assertThrows(IllegalArgumentException.class, () -> Flops.weight(-1));
+        assertThrows(IllegalArgumentException.class, () -> Flops.indexOf(CardSet.fromString("Ah Kh")));
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HandCategoryTest {
+    @Test
+    void testOf() {
+        assertEquals(HandCategory.STRAIGHT_FLUSH, HandCategory.of(Hand.fromString("Ac Kc Qc Jc Tc").evaluate()));
+        assertEquals(HandCategory.FOUR_OF_A_KIND, HandCategory.of(Hand.fromString("7c 7d 7h 7s 2c").evaluate()));
+        assertEquals(HandCategory.FULL_HOUSE, HandCategory.of(Hand.fromString("7c 7d 7h 2s 2c").evaluate()));
+        assertEquals(HandCategory.FLUSH, HandCategory.of(Hand.fromString("Ac Jc 8c 4c 2c").evaluate()));
+        assertEquals(HandCategory.STRAIGHT, HandCategory.of(Hand.fromString("5c 4d 3h 2s Ac").evaluate()));
+        assertEquals(HandCategory.THREE_OF_A_KIND, HandCategory.of(Hand.fromString("7c 7d 7h Ks 2c").evaluate()));
+        assertEquals(HandCategory.TWO_PAIR, HandCategory.of(Hand.fromString("7c 7d Kh Ks 2c").evaluate()));
+        assertEquals(HandCategory.ONE_PAIR, HandCategory.of(Hand.fromString("7c 7d Kh Qs 2c").evaluate()));
+        assertEquals(HandCategory.HIGH_CARD, HandCategory.of(Hand.fromString("7c 5d 4h 3s 2c").evaluate()));
+    }
+
+    @Test
+    void testBoundaries() {
+        var previous = 0;
+        for (var category : HandCategory.values()) {
+            assertEquals(category, HandCategory.of(previous + 1));
+            assertEquals(category, HandCategory.of(category.getWorst()));
+            previous = category.getWorst();
+        }
+        assertThrows(IllegalArgumentException.class, () -> HandCategory.of(0));
+        assertThrows(IllegalArgumentException.class, () -> HandCategory.of(7463));
+    }
+}
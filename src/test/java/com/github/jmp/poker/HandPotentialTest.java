@@ -0,0 +1,101 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HandPotentialTest {
+    @Test
+    void testFlop() {
+        final var hole = CardSet.fromString("Ah Kh");
+        final var board = CardSet.fromString("Qh 7h 2c");
+        assertPotential(bruteForce(hole, board), HandPotential.calculate(hole, board));
+    }
+
+    @Test
+    void testTurn() {
+        final var hole = CardSet.fromString("9s 8s");
+        final var board = CardSet.fromString("Tc 7d 2s Ks");
+        assertPotential(bruteForce(hole, board), HandPotential.calculate(hole, board));
+    }
+
+    @Test
+    void testRiver() {
+        final var hole = CardSet.fromString("Qs Qd");
+        final var board = CardSet.fromString("Ah 7c 2d 9s 3h");
+        final var result = HandPotential.calculate(hole, board);
+
+        assertEquals(new HandStrength().equity(hole, board), result.handStrength(), 1e-6);
+        assertEquals(0, result.positivePotential());
+        assertEquals(0, result.negativePotential());
+        assertEquals(result.handStrength(), result.effectiveHandStrength());
+    }
+
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () ->
+            HandPotential.calculate(CardSet.fromString("Ah"), CardSet.fromString("2c 3c 4c")));
+        assertThrows(IllegalArgumentException.class, () ->
+            HandPotential.calculate(CardSet.fromString("Ah Kd"), CardSet.fromString("2c 3c")));
+        assertThrows(IllegalArgumentException.class, () ->
+            HandPotential.calculate(CardSet.fromString("Ah Kd"), CardSet.fromString("Ah 3c 4c")));
+    }
+
+    private static void assertPotential(HandPotential expected, HandPotential actual) {
+        assertEquals(expected.handStrength(), actual.handStrength(), 1e-12);
+        assertEquals(expected.positivePotential(), actual.positivePotential(), 1e-12);
+        assertEquals(expected.negativePotential(), actual.negativePotential(), 1e-12);
+        assertEquals(expected.effectiveHandStrength(), actual.effectiveHandStrength(), 1e-12);
+    }
+
+    /**
+     * Computes the potentials as in Billings et al., one opponent hand and runout at a time.
+     */
+    private static HandPotential bruteForce(CardSet hole, CardSet board) {
+        final var live = hole.union(board).complement().toArray();
+        final var transitions = new double[3][3];
+        final var totals = new double[3];
+        final var now = new double[3];
+        final var player = hole.union(board).evaluate();
+
+        for (var i = 0; i < live.length; i++) {
+            for (var j = i + 1; j < live.length; j++) {
+                final var opponent = CardSet.of(live[i], live[j]);
+                final var index = state(player, opponent.union(board).evaluate());
+                now[index]++;
+
+                final var remaining = board.union(opponent).union(hole).complement().toArray();
+                if (board.size() == 3) {
+                    for (var k = 0; k < remaining.length; k++) {
+                        for (var l = k + 1; l < remaining.length; l++) {
+                            final var runout = board.add(remaining[k]).add(remaining[l]);
+                            transitions[index][state(hole.union(runout).evaluate(), opponent.union(runout).evaluate())]++;
+                            totals[index]++;
+                        }
+                    }
+                } else {
+                    for (var river : remaining) {
+                        final var runout = board.add(river);
+                        transitions[index][state(hole.union(runout).evaluate(), opponent.union(runout).evaluate())]++;
+                        totals[index]++;
+                    }
+                }
+            }
+        }
+
+        final int ahead = 0;
+        final int tied = 1;
+        final int behind = 2;
+        final var strength = (now[ahead] + now[tied] / 2) / (now[ahead] + now[tied] + now[behind]);
+        final var positive = (transitions[behind][ahead] + transitions[behind][tied] / 2 + transitions[tied][ahead] / 2)
+            / (totals[behind] + totals[tied] / 2);
+        final var negative = (transitions[ahead][behind] + transitions[tied][behind] / 2 + transitions[ahead][tied] / 2)
+            / (totals[ahead] + totals[tied] / 2);
+        return new HandPotential(strength, positive, negative);
+    }
+
+    private static int state(int player, int opponent) {
+        return player < opponent ? 0 : player == opponent ? 1 : 2;
+    }
+}
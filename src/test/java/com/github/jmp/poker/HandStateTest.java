@@ -0,0 +1,69 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HandStateTest {
+    @Test
+    void testStreets() {
+        final var state = new HandState(CardSet.fromString("Ah Kh"));
+        assertEquals(2, state.size());
+
+        for (var card : new String[] {"Qh", "7h", "2c"}) {
+            state.add(Card.fromString(card));
+        }
+        assertEquals(CardSet.fromString("Ah Kh Qh 7h 2c").evaluate(), state.rank());
+
+        state.add(Card.fromString("Jh"));
+        assertEquals(HandCategory.FLUSH, HandCategory.of(state.rank()));
+        state.add(Card.fromString("Th"));
+        assertEquals(1, state.rank());
+        assertEquals(CardSet.fromString("Ah Kh Qh Jh Th 7h 2c"), state.cards());
+    }
+
+    @Test
+    void testAddAndRemove() {
+        // Walk every turn and river card, comparing with a fresh evaluation
+        final var flop = CardSet.fromString("Ac Ad 7s 7c 2d");
+        final var state = new HandState(flop);
+        for (var turn : flop.complement()) {
+            state.add(turn);
+            assertEquals(flop.add(turn).evaluate(), state.rank());
+            for (var river : flop.add(turn).complement()) {
+                state.add(river.getIndex());
+                assertEquals(flop.add(turn).add(river).evaluate(), state.rank());
+                state.remove(river.getIndex());
+            }
+            state.remove(turn);
+        }
+        assertEquals(flop.evaluate(), state.rank());
+        assertEquals(flop, state.cards());
+    }
+
+    @Test
+    void testCopy() {
+        final var state = new HandState(CardSet.fromString("Ah Kh Qh Jh 2c"));
+        final var copy = state.copy();
+        copy.remove(Card.fromString("2c"));
+        copy.add(Card.fromString("Th"));
+
+        assertEquals(CardSet.fromString("Ah Kh Qh Jh 2c").evaluate(), state.rank());
+        assertEquals(1, copy.rank());
+    }
+
+    @Test
+    void testIllegalCards() {
+        final var state = new HandState(CardSet.fromString("Ah Kh Qh Jh Th 9h"));
+        assertThrows(IllegalArgumentException.class, () -> state.add(Card.fromString("Ah")));
+        assertThrows(IllegalArgumentException.class, () -> state.remove(Card.fromString("2c")));
+        assertThrows(IllegalArgumentException.class, () -> state.add(52));
+
+        state.add(Card.fromString("8h"));
+        assertThrows(IllegalArgumentException.class, () -> state.add(Card.fromString("2c")));
+        assertThrows(IllegalArgumentException.class, () ->
+            new HandState(CardSet.fromString("Ah Kh Qh Jh Th 9h 8h 7h")));
+        assertThrows(IllegalStateException.class, () -> new HandState(CardSet.fromString("Ah Kh Qh Jh")).rank());
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandStrengthTest {
+    private final HandStrength strength = new HandStrength();
+
+    @Test
+    void testRiver() {
+        final var board = CardSet.fromString("Kh 7c 2d 5h 5s");
+        final var equities = strength.equities(board);
+        for (var hole : new String[] {"As Kd", "7h 7d", "3c 4c", "8d 9d", "Ac 2c"}) {
+            final var cards = CardSet.fromString(hole);
+            assertEquals(bruteForce(cards, board), equity(equities, cards), 1e-6, hole);
+        }
+        assertTrue(Float.isNaN(equities[Range.index(Card.fromString("Kh"), Card.fromString("Ad"))]));
+    }
+
+    @Test
+    void testTurn() {
+        final var board = CardSet.fromString("Jc 8d 3c 2s");
+        final var equities = strength.equities(board);
+        for (var hole : new String[] {"Ac Kc", "Jd Th"}) {
+            final var cards = CardSet.fromString(hole);
+            var expected = 0.0;
+            var count = 0;
+            for (var river : board.union(cards).complement()) {
+                expected += bruteForce(cards, board.add(river));
+                count++;
+            }
+            assertEquals(expected / count, equity(equities, cards), 1e-6, hole);
+        }
+    }
+
+    @Test
+    void testFlop() {
+        final var board = CardSet.fromString("Ah 7c 2d");
+        final var equities = strength.equities(board);
+        final var cards = CardSet.fromString("Qs Qd");
+        assertEquals(equity(equities, cards), strength.equity(cards, board));
+
+        // The nuts cannot lose on the river
+        final var river = strength.equities(CardSet.fromString("Ah Kh Qh Jh 2c"));
+        assertEquals(1.0, equity(river, CardSet.fromString("Th 3d")), 1e-6);
+    }
+
+    @Test
+    void testSuitIsomorphism() {
+        final var equities = strength.equities(CardSet.fromString("Ah 7c 2d"));
+        final var permuted = new HandStrength(0).equities(CardSet.fromString("As 7h 2c"));
+
+        // Hearts become spades, clubs become hearts, diamonds become clubs
+        assertEquals(equity(equities, CardSet.fromString("Kh Qh")), equity(permuted, CardSet.fromString("Ks Qs")));
+        assertEquals(equity(equities, CardSet.fromString("7d 8c")), equity(permuted, CardSet.fromString("7c 8h")));
+        assertArrayEquals(equities, strength.equities(CardSet.fromString("Ah 7c 2d")));
+    }
+
+    @Test
+    void testMatchesRangeEquity() {
+        final var random = Range.parse("22+, A2+, K2+, Q2+, J2+, T2+, 92+, 82+, 72+, 62+, 52+, 42+, 32");
+        assertEquals(Range.COMBOS, random.size());
+        for (var river : new String[] {"Kh 7c 2d 5h 5s", "Ah Kh Qh Jh 2c", "9c 9d 9h 4s 4c"}) {
+            final var board = CardSet.fromString(river);
+            final var equities = strength.equities(board);
+            for (var hole : new String[] {"As Kd", "7h 7d", "3c 4c", "Th 3d", "4d 4h"}) {
+                final var cards = CardSet.fromString(hole);
+                if (!cards.intersects(board)) {
+                    final var expected = RangeEquity.enumerate(Range.parse(hole.replace(" ", "")), random, board, CardSet.EMPTY);
+                    assertEquals(expected.equity(), equity(equities, cards), 1e-6, hole + " on " + river);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> strength.equities(CardSet.fromString("Ah 7c")));
+        assertThrows(IllegalArgumentException.class, () ->
+            strength.equities(CardSet.fromString("Ah 7c 2d 3d 4d 5d")));
+        assertThrows(IllegalArgumentException.class, () ->
+            strength.equity(CardSet.fromString("Ah"), CardSet.fromString("2c 3c 4c")));
+        assertThrows(IllegalArgumentException.class, () ->
+            strength.equity(CardSet.fromString("Ah Kd"), CardSet.fromString("Ah 3c 4c")));
+        assertThrows(IllegalArgumentException.class, () -> new HandStrength(-1));
+    }
+
+    private static float equity(float[] equities, CardSet hole) {
+        final var cards = hole.toArray();
+        return equities[Range.index(cards[0], cards[1])];
+    }
+
+    private static double bruteForce(CardSet hole, CardSet board) {
+        final var value = hole.union(board).evaluate();
+        final var live = hole.union(board).complement().toArray();
+        var score = 0.0;
+        var count = 0;
+        for (var i = 0; i < live.length; i++) {
+            for (var j = i + 1; j < live.length; j++) {
+                final var opponent = board.add(live[i]).add(live[j]).evaluate();
+                score += value < opponent ? 1 : value == opponent ? 0.5 : 0;
+                count++;
+            }
+        }
+        return score / count;
+    }
+}
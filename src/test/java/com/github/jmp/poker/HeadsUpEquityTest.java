@@ -0,0 +1,117 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HeadsUpEquityTest {
+    @Test
+    void testPreflop() {
+        final var result = HeadsUpEquity.enumerate(
+            CardSet.fromString("Ah Kh"), CardSet.fromString("Qs Qd"), CardSet.EMPTY, CardSet.EMPTY
+        );
+        final var swapped = HeadsUpEquity.enumerate(
+            CardSet.fromString("Qs Qd"), CardSet.fromString("Ah Kh"), CardSet.EMPTY, CardSet.EMPTY
+        );
+
+        assertEquals(1712304, result.total());
+        assertEquals(new HeadsUpEquity(swapped.losses(), swapped.ties(), swapped.wins()), result);
+        assertEquals(1.0, result.equity() + swapped.equity(), 1e-12);
+    }
+
+    @Test
+    void testFlop() {
+        final var player = CardSet.fromString("Ah Kh");
+        final var opponent = CardSet.fromString("7c 7d");
+        final var board = CardSet.fromString("7h 2h Qs");
+        final var dead = CardSet.fromString("Th");
+
+        try (var pool = new ForkJoinPool(4)) {
+            assertEquals(
+                bruteForce(player, opponent, board, dead),
+                HeadsUpEquity.enumerate(player, opponent, board, dead, pool)
+            );
+        }
+    }
+
+    @Test
+    void testRiver() {
+        final var result = HeadsUpEquity.enumerate(
+            CardSet.fromString("Ah Kd"), CardSet.fromString("As Kc"), CardSet.fromString("2c 7d 9h Ts 3s"),
+            CardSet.EMPTY
+        );
+        assertEquals(new HeadsUpEquity(0, 1, 0), result);
+        assertEquals(0.5, result.equity());
+    }
+
+    @Test
+    void testIllegalCards() {
+        final var aces = CardSet.fromString("Ah As");
+        final var kings = CardSet.fromString("Kh Ks");
+        assertThrows(IllegalArgumentException.class, () ->
+            HeadsUpEquity.enumerate(CardSet.fromString("Ah"), kings, CardSet.EMPTY, CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () ->
+            HeadsUpEquity.enumerate(aces, CardSet.fromString("Ah Kd"), CardSet.EMPTY, CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () ->
+            HeadsUpEquity.enumerate(aces, kings, CardSet.fromString("2c 3c 4c 5c 6c 7c"), CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () ->
+            HeadsUpEquity.enumerate(aces, kings, CardSet.fromString("2c 3c 4c"), CardSet.fromString("2c")));
+    }
+
+    @Test
+    void testNotEnoughLiveCards() {
+        // 4 hole cards, 3 board cards and 44 dead cards leave a single card for the turn and river
+        final var player = CardSet.fromString("Ah As");
+        final var opponent = CardSet.fromString("Kh Ks");
+        final var board = CardSet.fromString("2c 3c 4c");
+        final var dead = CardSet.FULL_DECK.minus(player).minus(opponent).minus(board)
+            .remove(Card.fromString("5c"));
+        assertThrows(IllegalArgumentException.class, () -> HeadsUpEquity.enumerate(player, opponent, board, dead));
+    }
+
+    private static HeadsUpEquity bruteForce(CardSet player, CardSet opponent, CardSet board, CardSet dead) {
+        final var live = player.union(opponent).union(board).union(dead).complement().toArray();
+        var wins = 0L;
+        var ties = 0L;
+        var losses = 0L;
+        for (var i = 0; i < live.length; i++) {
+            for (var j = i + 1; j < live.length; j++) {
+                final var runout = board.add(live[i]).add(live[j]);
+                final var playerValue = best(player.union(runout));
+                final var opponentValue = best(opponent.union(runout));
+                if (playerValue < opponentValue) {
+                    wins++;
+                } else if (playerValue == opponentValue) {
+                    ties++;
+                } else {
+                    losses++;
+                }
+            }
+        }
+        return new HeadsUpEquity(wins, ties, losses);
+    }
+
+    /**
+     * Returns the best value of the 5-card hands of the given 7 cards.
+     */
+    private static int best(CardSet cards) {
+        final var array = cards.toArray();
+        var best = Integer.MAX_VALUE;
+        for (var skip1 = 0; skip1 < array.length; skip1++) {
+            for (var skip2 = skip1 + 1; skip2 < array.length; skip2++) {
+                final var hand = new Card[5];
+                var size = 0;
+                for (var k = 0; k < array.length; k++) {
+                    if (k != skip1 && k != skip2) {
+                        hand[size++] = array[k];
+                    }
+                }
+                best = Math.min(best, new Hand(hand).evaluate());
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonteCarloEquityTest {
+    @Test
+    void testHeadsUp() {
+        final var player = CardSet.fromString("Ah Kh");
+        final var opponent = CardSet.fromString("7c 7d");
+        final var board = CardSet.fromString("7h 2h Qs");
+        final var exact = HeadsUpEquity.enumerate(player, opponent, board, CardSet.EMPTY).equity();
+
+        final var simulation = new MonteCarloEquity(List.of(player, opponent), board, CardSet.EMPTY);
+        final var result = simulation.simulate(200_000, 2);
+        assertEquals(200_000, result.samples());
+        assertEquals(exact, result.equity(0), 0.01);
+        assertEquals(1.0, result.equity(0) + result.equity(1), 1e-9);
+        assertTrue(result.samplesPerSecond() > 0);
+    }
+
+    @Test
+    void testUnknownCards() {
+        // Ten players with unknown cards have the same equity
+        final var players = Collections.nCopies(10, CardSet.EMPTY);
+        final var result = new MonteCarloEquity(players, CardSet.EMPTY, CardSet.EMPTY).simulate(100_000, 3);
+
+        var total = 0.0;
+        for (var i = 0; i < 10; i++) {
+            assertEquals(0.1, result.equity(i), 0.01);
+            total += result.equity(i);
+        }
+        assertEquals(1.0, total, 1e-9);
+    }
+
+    @Test
+    void testSeedIsReproducible() {
+        final var simulation = new MonteCarloEquity(
+            List.of(CardSet.fromString("Ah Kh"), CardSet.fromString("Qs"), CardSet.EMPTY, CardSet.EMPTY),
+            CardSet.fromString("Jh"), CardSet.EMPTY
+        );
+
+        // More samples than fit in whole chunks, so that the last chunk is partial
+        final var samples = 100_003;
+        final var expected = simulation.simulate(samples, 1, 42).equities();
+        assertArrayEquals(expected, simulation.simulate(samples, 4, 42).equities());
+        assertArrayEquals(expected, simulation.simulate(samples, 16, 42).equities());
+        assertArrayEquals(expected, simulation.simulate(samples, 4, 42).equities());
+    }
+
+    @Test
+    void testTargetError() {
+        final var simulation = new MonteCarloEquity(
+            List.of(CardSet.fromString("Ah Kh"), CardSet.fromString("7c 7d")), CardSet.EMPTY, CardSet.EMPTY
+        );
+        final var result = simulation.simulateUntil(0.002, Duration.ofMinutes(1), 2, 7);
+
+        assertTrue(result.standardError(0) <= 0.002);
+        assertTrue(result.samples() < 1_000_000);
+        assertEquals(1.96 * result.standardError(0), result.margin(0), 1e-12);
+    }
+
+    @Test
+    void testTimeLimit() {
+        final var simulation = new MonteCarloEquity(
+            List.of(CardSet.fromString("Ah Kh"), CardSet.fromString("7c 7d")), CardSet.EMPTY, CardSet.EMPTY
+        );
+        final var result = simulation.simulateUntil(1e-9, Duration.ofMillis(50), 2, 7);
+
+        assertTrue(result.samples() > 0);
+        assertTrue(result.standardError(0) > 1e-9);
+        assertTrue(result.nanos() < Duration.ofSeconds(5).toNanos());
+    }
+
+    @Test
+    void testStandardError() {
+        final var simulation = new MonteCarloEquity(
+            List.of(CardSet.fromString("Ah Kh"), CardSet.fromString("7c 7d")), CardSet.EMPTY, CardSet.EMPTY
+        );
+        final var exact = HeadsUpEquity.enumerate(
+            CardSet.fromString("Ah Kh"), CardSet.fromString("7c 7d"), CardSet.EMPTY, CardSet.EMPTY
+        ).equity();
+        final var result = simulation.simulate(100_000, 1, 3);
+
+        // The variance of a single share is close to p(1 - p) when ties are rare
+        assertEquals(Math.sqrt(exact * (1 - exact) / 100_000), result.standardError(0), 1e-4);
+        assertEquals(exact, result.equity(0), 4 * result.standardError(0));
+    }
+
+    @Test
+    void testRiverWinner() {
+        final var result = new MonteCarloEquity(
+            List.of(CardSet.fromString("Ah Kd"), CardSet.fromString("As Kc"), CardSet.fromString("2d 2s")),
+            CardSet.fromString("2c 7d 9h Ts 3s"), CardSet.EMPTY
+        ).simulate(10, 1);
+
+        assertEquals(0.0, result.equity(0));
+        assertEquals(0.0, result.equity(1));
+        assertEquals(1.0, result.equity(2));
+    }
+
+    @Test
+    void testRiverThreeWayTie() {
+        // Everyone plays the straight on the board, so the pot is split three ways
+        final var result = new MonteCarloEquity(
+            List.of(CardSet.fromString("2d 3d"), CardSet.fromString("4h 5h"), CardSet.fromString("6s 7s")),
+            CardSet.fromString("Ac Kc Qd Jh Ts"), CardSet.EMPTY
+        ).simulate(10, 1);
+
+        for (var i = 0; i < 3; i++) {
+            assertEquals(1.0 / 3, result.equity(i));
+            assertEquals(0.0, result.standardError(i));
+        }
+    }
+
+    @Test
+    void testIllegalArguments() {
+        final var aces = CardSet.fromString("Ah As");
+        assertThrows(IllegalArgumentException.class, () ->
+            new MonteCarloEquity(List.of(aces), CardSet.EMPTY, CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () ->
+            new MonteCarloEquity(List.of(aces, CardSet.fromString("Ah Kd")), CardSet.EMPTY, CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () ->
+            new MonteCarloEquity(List.of(aces, CardSet.fromString("Kh Kd Kc")), CardSet.EMPTY, CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () ->
+            new MonteCarloEquity(List.of(aces, CardSet.EMPTY), CardSet.EMPTY, CardSet.EMPTY).simulate(0));
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OmahaTest {
+    @Test
+    void testNoFlushWithOneSuitedHoleCard() {
+        // Four hearts on the board, but only one in the hand
+        final var board = new Omaha(value("Ah"), value("Kh"), value("9h"), value("4h"), value("2c"));
+        final var expected = Hand.fromString("Ah Kh 9h 7d 7s").evaluate();
+        assertEquals(expected, board.evaluate(value("Qh"), value("7d"), value("7s"), value("3c")));
+    }
+
+    @Test
+    void testTwoHoleCardsRequired() {
+        // The board is a straight, but three hole cards must be left out
+        final var board = new Omaha(value("Tc"), value("Jd"), value("Qh"), value("Ks"), value("Ac"));
+        final var expected = Hand.fromString("Kd 9c Tc Jd Qh").evaluate();
+        assertEquals(expected, board.evaluate(value("2d"), value("3h"), value("Kd"), value("9c")));
+    }
+
+    @Test
+    void testFlushWithTwoSuitedHoleCards() {
+        final var board = new Omaha(value("Ah"), value("Kh"), value("9h"), value("4c"), value("2c"));
+        final var expected = Hand.fromString("Ah Kh 9h 7h 3h").evaluate();
+        assertEquals(expected, board.evaluate(value("7h"), value("3h"), value("4d"), value("4s")));
+    }
+
+    @Test
+    void testStaticEvaluate() {
+        assertEquals(1, Omaha.evaluate(
+            value("Ah"), value("Kh"), value("2c"), value("3c"),
+            value("Qh"), value("Jh"), value("Th"), value("4d"), value("5s")
+        ));
+    }
+
+    @Test
+    void testEvaluateRandomHands() {
+        final var random = new SplittableRandom(42);
+        for (var n = 0; n < 100000; n++) {
+            final var cards = new int[9];
+            var used = 0L;
+            for (var i = 0; i < cards.length; i++) {
+                int index;
+                do {
+                    index = random.nextInt(52);
+                } while ((used & (1L << index)) != 0);
+                used |= 1L << index;
+                cards[i] = Tables.DECK[index];
+            }
+
+            final var expected = bestOf(cards);
+            final var board = new Omaha(cards[4], cards[5], cards[6], cards[7], cards[8]);
+            assertEquals(expected, board.evaluate(cards[0], cards[1], cards[2], cards[3]));
+            assertEquals(expected, Omaha.evaluate(
+                cards[0], cards[1], cards[2], cards[3], cards[4], cards[5], cards[6], cards[7], cards[8]
+            ));
+        }
+    }
+
+    /**
+     * Returns the best of all 60 combinations of two hole cards and three board cards.
+     */
+    private static int bestOf(int[] cards) {
+        var best = Integer.MAX_VALUE;
+        for (var i = 0; i < 4; i++) {
+            for (var j = i + 1; j < 4; j++) {
+                for (var k = 4; k < 9; k++) {
+                    for (var l = k + 1; l < 9; l++) {
+                        for (var m = l + 1; m < 9; m++) {
+                            best = Math.min(best, Evaluator.evaluate(cards[i], cards[j], cards[k], cards[l], cards[m]));
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private static int value(String string) {
+        return Card.fromString(string).getValue();
+    }
+}
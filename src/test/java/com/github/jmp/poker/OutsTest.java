@@ -0,0 +1,80 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutsTest {
+    @Test
+    void testFlushDraw() {
+        final var hole = CardSet.fromString("Ah Kh");
+        final var board = CardSet.fromString("Qh 7h 2c");
+        final var outs = Outs.calculate(hole, board, CardSet.fromString("3h"));
+
+        assertEquals(hole.union(board).evaluate(), outs.value());
+        assertEquals(46, outs.candidates().size());
+        assertFalse(outs.candidates().contains(Card.fromString("3h")));
+
+        for (var card : outs.candidates()) {
+            final var value = hole.union(board).add(card).evaluate();
+            assertEquals(value, outs.value(card));
+            assertEquals(HandCategory.of(value).compareTo(HandCategory.HIGH_CARD) < 0, outs.improving().contains(card));
+        }
+        assertEquals(HandCategory.FLUSH, HandCategory.of(outs.value(Card.fromString("4h"))));
+        // 8 hearts, plus 3 cards for each of the 5 ranks that pair, one of which is 2h
+        assertEquals(8 + 5 * 3 - 1, outs.improving().size());
+        assertTrue(outs.beating().isEmpty());
+        assertTrue(Float.isNaN(outs.share(Card.fromString("4h"))));
+    }
+
+    @Test
+    void testRange() {
+        final var hole = CardSet.fromString("9s 8s");
+        final var board = CardSet.fromString("Tc 7d 2s Ks");
+        final var opponent = Range.parse("KK, TT, KQ, AK, AsQs, 99:0.5");
+        final var outs = Outs.calculate(hole, board, CardSet.EMPTY, opponent);
+
+        for (var card : outs.candidates()) {
+            final var river = board.add(card);
+            final var value = hole.union(river).evaluate();
+            var beaten = 0.0;
+            var total = 0.0;
+            for (var combo : opponent.combos()) {
+                final var cards = Range.cards(combo);
+                if (cards.intersects(hole.union(river))) {
+                    continue;
+                }
+                final var result = cards.union(river).evaluate();
+                total += opponent.weight(combo);
+                beaten += value < result ? opponent.weight(combo) : value == result ? opponent.weight(combo) / 2 : 0;
+            }
+            assertEquals(beaten / total, outs.share(card), 1e-6, card.toString());
+            assertEquals(beaten / total > 0.5, outs.beating().contains(card), card.toString());
+        }
+
+        // Jacks and sixes make the straight, which beats all of that range but the flush
+        assertTrue(outs.beating().contains(Card.fromString("Jd")));
+        assertTrue(outs.beating().contains(Card.fromString("6c")));
+        assertFalse(outs.beating().contains(Card.fromString("3c")));
+    }
+
+    @Test
+    void testIllegalArguments() {
+        final var hole = CardSet.fromString("Ah Kh");
+        final var board = CardSet.fromString("Qh 7h 2c");
+        assertThrows(IllegalArgumentException.class, () ->
+            Outs.calculate(CardSet.fromString("Ah"), board, CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () ->
+            Outs.calculate(hole, CardSet.fromString("Qh 7h"), CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () ->
+            Outs.calculate(hole, CardSet.fromString("Qh 7h 2c 3c 4c"), CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () ->
+            Outs.calculate(hole, board, CardSet.fromString("Qh")));
+
+        final var outs = Outs.calculate(hole, board, CardSet.EMPTY);
+        assertThrows(IllegalArgumentException.class, () -> outs.value(Card.fromString("Ah")));
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PreflopEquityTest {
+    @Test
+    void testClassOf() {
+        assertEquals(12 * 13 + 12, PreflopEquity.classOf("AA"));
+        assertEquals(12 * 13 + 11, PreflopEquity.classOf("AKs"));
+        assertEquals(11 * 13 + 12, PreflopEquity.classOf("AKo"));
+        assertEquals(PreflopEquity.classOf("72o"), PreflopEquity.classOf("27o"));
+        assertEquals(PreflopEquity.classOf("AKs"), PreflopEquity.classOf(Card.fromString("Kh"), Card.fromString("Ah")));
+        assertEquals(PreflopEquity.classOf("AKo"), PreflopEquity.classOf(Card.fromString("Ah"), Card.fromString("Kd")));
+        for (var handClass = 0; handClass < PreflopEquity.CLASSES; handClass++) {
+            assertEquals(handClass, PreflopEquity.classOf(PreflopEquity.toString(handClass)));
+        }
+    }
+
+    @Test
+    void testInvalidClass() {
+        for (var string : new String[] {"", "A", "AKx", "AAs", "AK", "1Ks", "AKso"}) {
+            assertThrows(IllegalArgumentException.class, () -> PreflopEquity.classOf(string));
+        }
+        assertThrows(IllegalArgumentException.class, () ->
+            PreflopEquity.classOf(Card.fromString("Ah"), Card.fromString("Ah")));
+        assertThrows(IllegalArgumentException.class, () -> PreflopEquity.toString(169));
+    }
+
+    @Test
+    void testClassEquity() {
+        // AKs against QQ: the average over all 24 pairs of combos
+        var expected = 0.0;
+        var count = 0;
+        for (var suited : new String[] {"Ac Kc", "Ad Kd", "Ah Kh", "As Ks"}) {
+            for (var pair : new String[] {"Qc Qd", "Qc Qh", "Qc Qs", "Qd Qh", "Qd Qs", "Qh Qs"}) {
+                expected += HeadsUpEquity.enumerate(
+                    CardSet.fromString(suited), CardSet.fromString(pair), CardSet.EMPTY, CardSet.EMPTY
+                ).equity();
+                count++;
+            }
+        }
+
+        final var equity = PreflopEquity.classEquity(PreflopEquity.classOf("AKs"), PreflopEquity.classOf("QQ"));
+        assertEquals(expected / count, equity, 1e-12);
+    }
+
+    @Test
+    void testLoad(@TempDir Path directory) throws IOException {
+        final var table = new float[PreflopEquity.CLASSES * PreflopEquity.CLASSES];
+        for (var i = 0; i < table.length; i++) {
+            table[i] = i / (float) table.length;
+        }
+        final var file = directory.resolve("preflop.bin");
+        PreflopEquity.write(table, file);
+
+        final var loaded = PreflopEquity.load(file);
+        final var aces = PreflopEquity.classOf("AA");
+        final var kings = PreflopEquity.classOf("KK");
+        assertEquals(table[aces * PreflopEquity.CLASSES + kings], loaded.equity(aces, kings));
+        assertEquals(table[kings * PreflopEquity.CLASSES + aces], loaded.equity("KK", "AA"));
+        assertEquals(table[table.length - 1], loaded.equity(168, 168));
+        assertThrows(IllegalArgumentException.class, () -> loaded.equity(0, 169));
+    }
+
+    @Test
+    void testLoadInvalid(@TempDir Path directory) throws IOException {
+        final var file = directory.resolve("invalid.bin");
+        Files.write(file, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> PreflopEquity.load(file));
+
+        Files.write(file, new byte[8 + 169 * 169 * 4]);
+        assertThrows(IOException.class, () -> PreflopEquity.load(file));
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RangeEquityTest {
+    @Test
+    void testSingleCombos() {
+        final var board = CardSet.fromString("7h 2h Qs");
+        final var dead = CardSet.fromString("Th");
+        final var exact = HeadsUpEquity.enumerate(
+            CardSet.fromString("Ah Kh"), CardSet.fromString("7c 7d"), board, dead
+        );
+        final var result = RangeEquity.enumerate(Range.parse("AhKh"), Range.parse("7c7d"), board, dead);
+
+        assertEquals(new RangeEquity(exact.wins(), exact.ties(), exact.losses()), result);
+    }
+
+    @Test
+    void testTurn() {
+        final var player = Range.parse("TT+, AQs+, AKo:0.5, 7h6h");
+        final var opponent = Range.parse("88-55, AK, KQs:0.25, QhJh, AhKh");
+        final var board = CardSet.fromString("Kh 7c 2d 5h");
+        final var dead = CardSet.fromString("3s");
+
+        final var expected = bruteForce(player, opponent, board, dead);
+        final var result = RangeEquity.enumerate(player, opponent, board, dead);
+
+        assertEquals(expected.wins(), result.wins(), 1e-6);
+        assertEquals(expected.ties(), result.ties(), 1e-6);
+        assertEquals(expected.losses(), result.losses(), 1e-6);
+    }
+
+    @Test
+    void testSymmetry() {
+        final var player = Range.parse("22+, AT+");
+        final var opponent = Range.parse("A2s+, KTs+, QJ");
+        final var board = CardSet.fromString("Jc 8d 3c");
+
+        final var result = RangeEquity.enumerate(player, opponent, board, CardSet.EMPTY);
+        final var swapped = RangeEquity.enumerate(opponent, player, board, CardSet.EMPTY);
+
+        assertEquals(result.wins(), swapped.losses(), 1e-6);
+        assertEquals(result.ties(), swapped.ties(), 1e-6);
+        assertEquals(1.0, result.equity() + swapped.equity(), 1e-9);
+    }
+
+    @Test
+    void testSample() {
+        final var player = Range.parse("TT+, AK");
+        final var opponent = Range.parse("22+, AT+, KQ");
+        final var board = CardSet.fromString("9s 6d 2c");
+
+        final var exact = RangeEquity.enumerate(player, opponent, board, CardSet.EMPTY);
+        final var sampled = RangeEquity.sample(player, opponent, board, CardSet.EMPTY, 2000, 42);
+
+        assertEquals(sampled, RangeEquity.sample(player, opponent, board, CardSet.EMPTY, 2000, 42));
+        assertEquals(exact.equity(), sampled.equity(), 0.01);
+    }
+
+    @Test
+    void testIllegalArguments() {
+        final var range = Range.parse("AA");
+        assertThrows(IllegalArgumentException.class, () ->
+            RangeEquity.enumerate(range, range, CardSet.fromString("2c 3c 4c 5c 6c 7c"), CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () ->
+            RangeEquity.enumerate(range, range, CardSet.fromString("2c"), CardSet.fromString("2c")));
+        assertThrows(IllegalArgumentException.class, () ->
+            RangeEquity.enumerate(Range.parse("AhAs"), Range.parse("AhAd"), CardSet.EMPTY, CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () ->
+            RangeEquity.enumerate(Range.parse("AhAs"), range, CardSet.fromString("As 2c 3d"), CardSet.EMPTY));
+        assertThrows(IllegalArgumentException.class, () ->
+            RangeEquity.sample(range, Range.parse("KK"), CardSet.EMPTY, CardSet.EMPTY, 0, 1));
+    }
+
+    private static RangeEquity bruteForce(Range player, Range opponent, CardSet board, CardSet dead) {
+        var wins = 0.0;
+        var ties = 0.0;
+        var losses = 0.0;
+        for (var river : board.union(dead).complement()) {
+            final var runout = board.add(river);
+            for (var p : player.combos()) {
+                for (var o : opponent.combos()) {
+                    final var playerCards = Range.cards(p);
+                    final var opponentCards = Range.cards(o);
+                    if (playerCards.intersects(opponentCards)
+                        || playerCards.intersects(runout.union(dead))
+                        || opponentCards.intersects(runout.union(dead))) {
+                        continue;
+                    }
+
+                    final var weight = (double) player.weight(p) * opponent.weight(o);
+                    final var playerValue = playerCards.union(runout).evaluate();
+                    final var opponentValue = opponentCards.union(runout).evaluate();
+                    if (playerValue < opponentValue) {
+                        wins += weight;
+                    } else if (playerValue == opponentValue) {
+                        ties += weight;
+                    } else {
+                        losses += weight;
+                    }
+                }
+            }
+        }
+        return new RangeEquity(wins, ties, losses);
+    }
+}
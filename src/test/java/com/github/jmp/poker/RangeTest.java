@@ -0,0 +1,98 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RangeTest {
+    @Test
+    void testIndex() {
+        var count = 0;
+        for (var high = 0; high < 52; high++) {
+            for (var low = 0; low < high; low++) {
+                assertEquals(count, Range.index(low, high));
+                assertEquals(count, Range.index(high, low));
+                assertEquals(CardSet.of(Card.of(low), Card.of(high)), Range.cards(count));
+                count++;
+            }
+        }
+        assertEquals(Range.COMBOS, count);
+    }
+
+    @Test
+    void testPairs() {
+        assertEquals(6, Range.parse("AA").size());
+        assertEquals(30, Range.parse("TT+").size());
+        assertEquals(24, Range.parse("TT-77").size());
+        assertEquals(24, Range.parse("77-TT").size());
+        assertEquals(78, Range.parse("22+").size());
+    }
+
+    @Test
+    void testNonPairs() {
+        assertEquals(4, Range.parse("AKs").size());
+        assertEquals(12, Range.parse("KQo").size());
+        assertEquals(16, Range.parse("AK").size());
+        assertEquals(16, Range.parse("A5s-A2s").size());
+        assertEquals(16, Range.parse("ATs+").size());
+        assertEquals(4, Range.parse("KAs").size());
+    }
+
+    @Test
+    void testCombined() {
+        final var range = Range.parse("TT+, AKs, A5s-A2s, KQo");
+        assertEquals(30 + 4 + 16 + 12, range.size());
+        assertEquals(1f, range.weight(Range.index(Card.fromString("Ah"), Card.fromString("Kh"))));
+        assertEquals(0f, range.weight(Range.index(Card.fromString("Ah"), Card.fromString("Kd"))));
+        assertEquals(1f, range.weight(Range.index(Card.fromString("Kh"), Card.fromString("Qd"))));
+        assertEquals(0f, range.weight(Range.index(Card.fromString("Kh"), Card.fromString("Qh"))));
+    }
+
+    @Test
+    void testSingleCombo() {
+        final var range = Range.parse("AhKh");
+        assertEquals(1, range.size());
+        assertEquals(Range.index(Card.fromString("Ah"), Card.fromString("Kh")), range.combos()[0]);
+    }
+
+    @Test
+    void testWeights() {
+        final var range = Range.parse("AK:0.5, AKs");
+        assertEquals(16, range.size());
+        assertEquals(1f, range.weight(Range.index(Card.fromString("As"), Card.fromString("Ks"))));
+        assertEquals(0.5f, range.weight(Range.index(Card.fromString("As"), Card.fromString("Kd"))));
+        assertEquals(0, Range.parse("AA:0").size());
+    }
+
+    @Test
+    void testWithout() {
+        final var range = Range.parse("AA, KK").without(CardSet.fromString("Ah Kh Kd"));
+        assertEquals(3 + 1, range.size());
+        for (var combo : range.combos()) {
+            assertEquals(0, Range.MASKS[combo] & CardSet.fromString("Ah Kh Kd").mask());
+        }
+    }
+
+    @Test
+    void testCombosIsACopy() {
+        final var range = Range.parse("AA");
+        final var combos = range.combos();
+        final var first = combos[0];
+        combos[0] = 0;
+        assertEquals(first, range.combos()[0]);
+        assertEquals(range.combos()[0], range.without(CardSet.EMPTY).combos()[0]);
+    }
+
+    @Test
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AAs"));
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AX"));
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AKx"));
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AKs-QJs"));
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("A5s-A2o"));
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AhAh"));
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AK:2"));
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AK:x"));
+    }
+}
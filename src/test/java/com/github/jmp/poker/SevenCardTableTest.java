@@ -0,0 +1,130 @@
+package com.github.jmp.poker;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SevenCardTableTest {
+    @Test
+    void testKeysOfFlopRunouts() {
+        final var flop = CardSet.fromString("Ah Kh 7c");
+        var flopKey = 0L;
+        for (var card : flop) {
+            flopKey = SevenCardTable.add(flopKey, card.getIndex());
+        }
+        assertEquals(0, SevenCardTable.add(flopKey, Card.fromString("Kh").getIndex()));
+
+        // Every hand of 5 to 7 cards that contains the flop
+        final var live = flop.complement().toArray();
+        for (var i = 0; i < live.length; i++) {
+            final var five = flop.add(live[i]);
+            final var turnKey = SevenCardTable.add(flopKey, live[i].getIndex());
+            for (var j = i + 1; j < live.length; j++) {
+                final var riverKey = SevenCardTable.add(turnKey, live[j].getIndex());
+                assertEquals(Evaluator.evaluate(five.add(live[j]).mask()), SevenCardTable.value(riverKey));
+                for (var k = j + 1; k < live.length; k++) {
+                    final var sixKey = SevenCardTable.add(riverKey, live[k].getIndex());
+                    final var six = five.add(live[j]).add(live[k]);
+                    assertEquals(Evaluator.evaluate(six.mask()), SevenCardTable.value(sixKey));
+                    for (var l = k + 1; l < live.length; l++) {
+                        assertEquals(Evaluator.evaluate(six.add(live[l]).mask()),
+                            SevenCardTable.value(SevenCardTable.add(sixKey, live[l].getIndex())));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testKeysForgetSuits() {
+        // Suits that can no longer make a flush are forgotten, so these hands share a state
+        assertEquals(key("Ah Kh Qh 2d 3s"), key("Ah Kh Qh 2s 3d"));
+        assertEquals(key("Ah Kc Qd 2s"), key("As Kd Qc 2h"));
+        assertNotEquals(key("Ah Kh Qh 2d"), key("Ah Kh Qh 2h"));
+        assertNotEquals(key("Ah Kh Qh Jh 2d 3s"), key("Ah Kh Qh Jd 2h 3s"));
+    }
+
+    /**
+     * Generates and checks the whole 130 MB table, with {@code mvn test -Dpoker.fullTable=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "poker.fullTable", matches = "true")
+    void testGenerate(@TempDir Path directory) throws IOException {
+        final var file = directory.resolve("states.bin");
+        SevenCardTable.generate(file);
+        final var table = SevenCardTable.load(file);
+
+        // Every 5-card hand
+        for (var c1 = 0; c1 < Card.DECK_SIZE; c1++) {
+            for (var c2 = c1 + 1; c2 < Card.DECK_SIZE; c2++) {
+                for (var c3 = c2 + 1; c3 < Card.DECK_SIZE; c3++) {
+                    for (var c4 = c3 + 1; c4 < Card.DECK_SIZE; c4++) {
+                        for (var c5 = c4 + 1; c5 < Card.DECK_SIZE; c5++) {
+                            final var mask = 1L << c1 | 1L << c2 | 1L << c3 | 1L << c4 | 1L << c5;
+                            assertEquals(Evaluator.evaluate(mask), table.evaluate(mask));
+                        }
+                    }
+                }
+            }
+        }
+
+        // Random 6-card and 7-card hands, in random order
+        final var random = new SplittableRandom(42);
+        for (var i = 0; i < 1_000_000; i++) {
+            final var cards = new int[7];
+            var mask = 0L;
+            for (var j = 0; j < cards.length; j++) {
+                do {
+                    cards[j] = random.nextInt(Card.DECK_SIZE);
+                } while ((mask & 1L << cards[j]) != 0);
+                mask |= 1L << cards[j];
+            }
+            final var expected = Evaluator.evaluate(mask);
+            assertEquals(expected, table.evaluate(mask));
+            assertEquals(expected, table.evaluate(cards[0], cards[1], cards[2], cards[3], cards[4], cards[5], cards[6]));
+
+            final var six = mask & ~(1L << cards[6]);
+            var state = SevenCardTable.START;
+            for (var j = 0; j < 6; j++) {
+                state = table.next(state, cards[j]);
+            }
+            assertEquals(Evaluator.evaluate(six), table.value(state));
+            assertEquals(expected, table.next(state, cards[6]));
+        }
+        assertEquals(1, table.evaluate(CardSet.fromString("Ah Kh Qh Jh Th 2c 3d").mask()));
+        assertThrows(IllegalArgumentException.class, () -> table.evaluate(CardSet.fromString("Ah Kh Qh Jh").mask()));
+
+        // A single changed entry fails the checksum
+        try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3, 4}), 1 << 20);
+        }
+        assertThrows(IOException.class, () -> SevenCardTable.load(file));
+    }
+
+    @Test
+    void testLoadInvalid(@TempDir Path directory) throws IOException {
+        final var file = directory.resolve("invalid.bin");
+        Files.write(file, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> SevenCardTable.load(file));
+    }
+
+    private static long key(String cards) {
+        var key = 0L;
+        for (var card : cards.split(" ")) {
+            key = SevenCardTable.add(key, Card.fromString(card).getIndex());
+        }
+        return key;
+    }
+}